@@ -0,0 +1,38 @@
+// 인기 게시글 하나에 상세 조회가 몰리는 상황 (PostDetailCache 검증)
+//
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e POST_ID=1 bench/k6/hot-post-detail.js
+//
+// 단계별로 동시 사용자를 50 → 200 → 500 으로 늘리면서
+// 요청 수는 늘어나도 DB에서 실행되는 상세 조회 쿼리 수는 거의 일정해야 함 (TTL당 1회 + 변경 시 1회)
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const POST_ID = __ENV.POST_ID || '1';
+
+export const options = {
+    stages: [
+        { duration: '1m', target: 50 },
+        { duration: '1m', target: 200 },
+        { duration: '1m', target: 500 },
+        { duration: '30s', target: 0 },
+    ],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(95)<100'],
+    },
+};
+
+export default function () {
+    // 사용자마다 isAuthor가 다르게 계산되는지 함께 확인 (1~3번 사용자 + 비로그인)
+    const userId = Math.floor(Math.random() * 4);
+    const url = userId === 0
+        ? `${BASE_URL}/boards/${POST_ID}`
+        : `${BASE_URL}/boards/${POST_ID}?userId=${userId}`;
+
+    const res = http.get(url, { tags: { name: 'GET /boards/{id}' } });
+    check(res, {
+        'status is 200': (r) => r.status === 200,
+        'has isAuthor': (r) => r.json('data.isAuthor') !== undefined,
+    });
+}
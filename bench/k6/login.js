@@ -0,0 +1,71 @@
+// 로그인 처리량 (BCrypt cost별)
+//
+// 실행: 애플리케이션을 BOARD_PASSWORD_BCRYPT_COST=8|10|12 로 각각 띄우고
+//   k6 run -e BASE_URL=http://localhost:8080 -e COST=10 bench/k6/login.js
+//
+// - setup에서 COST별 사용자를 새로 만들어 저장된 해시 cost와 설정 cost를 일치시킴 (교체 해시 제외)
+// - 동시 사용자를 늘려도 처리량은 board.password.threads / 검증 시간에서 멈추고,
+//   그 이상은 대기열(board.password.queue-capacity)을 넘어 503 + Retry-After로 빠르게 거절되어야 함
+// - 다른 API(GET /boards)의 지연이 로그인 부하와 무관하게 유지되는지 함께 확인
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const COST = __ENV.COST || '10';
+const USERS = 50;
+const PASSWORD = 'load-test-password';
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+    scenarios: {
+        login: {
+            executor: 'ramping-vus',
+            exec: 'login',
+            stages: [
+                { duration: '30s', target: 20 },
+                { duration: '1m', target: 100 },
+                { duration: '1m', target: 300 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+        browse: {
+            executor: 'constant-vus',
+            exec: 'browse',
+            vus: 20,
+            duration: '3m',
+        },
+    },
+    thresholds: {
+        'http_req_duration{scenario:browse}': ['p(95)<200'],
+    },
+};
+
+function username(i) {
+    return `login_c${COST}_${i}`;
+}
+
+export function setup() {
+    for (let i = 0; i < USERS; i++) {
+        http.post(`${BASE_URL}/users/register`, JSON.stringify({
+            username: username(i),
+            password: PASSWORD,
+            nickname: `부하${i}`,
+        }), JSON_HEADERS);
+    }
+}
+
+export function login() {
+    const i = Math.floor(Math.random() * USERS);
+    const res = http.post(`${BASE_URL}/users/login`, JSON.stringify({
+        username: username(i),
+        password: PASSWORD,
+    }), Object.assign({ tags: { name: 'POST /users/login' } }, JSON_HEADERS));
+    check(res, {
+        'login ok or shed': (r) => r.status === 200 || (r.status === 503 && r.headers['Retry-After'] !== undefined),
+    });
+}
+
+export function browse() {
+    const res = http.get(`${BASE_URL}/boards`, { tags: { name: 'GET /boards' } });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,34 @@
+// 플랫폼 스레드 vs 가상 스레드 비교 (동시 클라이언트 2,000)
+//
+// 1) 플랫폼 스레드: VIRTUAL_THREADS_ENABLED=false ./gradlew bootRun
+//    k6 run -e MODE=platform bench/k6/virtual-threads.js --summary-export=platform.json
+// 2) 가상 스레드:   VIRTUAL_THREADS_ENABLED=true ./gradlew bootRun
+//    k6 run -e MODE=virtual bench/k6/virtual-threads.js --summary-export=virtual.json
+//
+// 같은 DB_POOL_SIZE(기본 10)에서 처리량(http_reqs), p95/p99 지연, 실패율(503 포함)을 비교
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+    scenarios: {
+        clients: {
+            executor: 'constant-vus',
+            vus: 2000,
+            duration: '2m',
+            tags: { mode: __ENV.MODE || 'unknown' },
+        },
+    },
+};
+
+export default function () {
+    // 목록(캐시 없는 뒤쪽 페이지) 70%, 상세 30% → DB 커넥션이 병목이 되는 구성
+    const res = Math.random() < 0.7
+        ? http.get(`${BASE_URL}/boards?page=${3 + Math.floor(Math.random() * 50)}`, { tags: { name: 'GET /boards' } })
+        : http.get(`${BASE_URL}/boards/${1 + Math.floor(Math.random() * 1000)}`, { tags: { name: 'GET /boards/{id}' } });
+
+    check(res, {
+        'not 5xx except admission 503': (r) => r.status < 500 || r.status === 503,
+    });
+}
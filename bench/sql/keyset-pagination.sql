@@ -0,0 +1,118 @@
+-- OFFSET 페이징 vs 커서(키셋) 페이징 비교 벤치마크
+--
+-- 실행: psql -h localhost -U board_user -d board -f bench/sql/keyset-pagination.sql
+-- 주의: 벤치마크 전용 DB에서 실행 (posts/comments 테이블에 대량 데이터를 삽입함)
+--
+-- 비교 대상 (페이지 크기 20)
+--   1) page 1      : OFFSET 0       vs 첫 페이지
+--   2) page 1,000  : OFFSET 19,980  vs 19,980번째 행을 커서로 사용
+--   3) page 50,000 : OFFSET 999,980 vs 999,980번째 행을 커서로 사용
+
+\timing on
+\set rows 3000000
+\set size 20
+
+-- 1. 시드 데이터 (작성자 1명, 게시글 :rows 건, 일부 게시글에 댓글)
+INSERT INTO users (username, password, nickname, role, created_at, updated_at)
+VALUES ('bench_user', 'bench', '벤치', 'USER', now(), now())
+ON CONFLICT (username) DO NOTHING;
+
+INSERT INTO posts (title, content, author_id, view_count, like_count, is_deleted, created_at, updated_at)
+SELECT 'bench title ' || g,
+       'bench content ' || g,
+       (SELECT id FROM users WHERE username = 'bench_user'),
+       0, 0, (g % 50 = 0),
+       now() - (g || ' seconds')::interval,
+       now()
+FROM generate_series(1, :rows) AS g;
+
+INSERT INTO comments (post_id, author_id, content, is_deleted, created_at)
+SELECT p.id, p.author_id, 'bench comment', FALSE, p.created_at
+FROM posts p
+WHERE p.id % 10 = 0;
+
+VACUUM ANALYZE posts;
+VACUUM ANALYZE comments;
+
+-- 2. OFFSET 페이징 (기존 searchList 와 같은 형태의 쿼리 + COUNT)
+\echo '== OFFSET page 1 =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id, p.title, u.nickname, p.view_count, p.like_count, COUNT(c.id), p.created_at
+FROM posts p
+JOIN users u ON u.id = p.author_id
+LEFT JOIN comments c ON c.post_id = p.id AND c.is_deleted = FALSE
+WHERE p.is_deleted = FALSE
+GROUP BY p.id, p.title, u.nickname, p.view_count, p.like_count, p.created_at
+ORDER BY p.created_at DESC
+OFFSET 0 LIMIT :size;
+
+\echo '== OFFSET page 1,000 =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id, p.title, u.nickname, p.view_count, p.like_count, COUNT(c.id), p.created_at
+FROM posts p
+JOIN users u ON u.id = p.author_id
+LEFT JOIN comments c ON c.post_id = p.id AND c.is_deleted = FALSE
+WHERE p.is_deleted = FALSE
+GROUP BY p.id, p.title, u.nickname, p.view_count, p.like_count, p.created_at
+ORDER BY p.created_at DESC
+OFFSET 19980 LIMIT :size;
+
+\echo '== OFFSET page 50,000 =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id, p.title, u.nickname, p.view_count, p.like_count, COUNT(c.id), p.created_at
+FROM posts p
+JOIN users u ON u.id = p.author_id
+LEFT JOIN comments c ON c.post_id = p.id AND c.is_deleted = FALSE
+WHERE p.is_deleted = FALSE
+GROUP BY p.id, p.title, u.nickname, p.view_count, p.like_count, p.created_at
+ORDER BY p.created_at DESC
+OFFSET 999980 LIMIT :size;
+
+\echo '== OFFSET 페이징이 매 요청마다 함께 실행하는 COUNT =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COUNT(*) FROM posts p WHERE p.is_deleted = FALSE;
+
+-- 3. 커서 페이징 (findListFirst / findListBefore 와 같은 형태의 쿼리)
+\echo '== CURSOR page 1 =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id, p.title, u.nickname, p.view_count, p.like_count, COUNT(c.id), p.created_at
+FROM posts p
+JOIN users u ON u.id = p.author_id
+LEFT JOIN comments c ON c.post_id = p.id AND c.is_deleted = FALSE
+WHERE p.is_deleted = FALSE
+GROUP BY p.id, p.title, u.nickname, p.view_count, p.like_count, p.created_at
+ORDER BY p.created_at DESC, p.id DESC
+LIMIT :size + 1;
+
+-- 커서 값은 측정 대상이 아니므로 미리 구해 둠 (클라이언트가 이전 응답에서 받은 nextCursor 에 해당)
+SELECT created_at AS c1000_created_at, id AS c1000_id
+FROM posts WHERE is_deleted = FALSE
+ORDER BY created_at DESC, id DESC OFFSET 19979 LIMIT 1 \gset
+
+SELECT created_at AS c50000_created_at, id AS c50000_id
+FROM posts WHERE is_deleted = FALSE
+ORDER BY created_at DESC, id DESC OFFSET 999979 LIMIT 1 \gset
+
+\echo '== CURSOR page 1,000 =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id, p.title, u.nickname, p.view_count, p.like_count, COUNT(c.id), p.created_at
+FROM posts p
+JOIN users u ON u.id = p.author_id
+LEFT JOIN comments c ON c.post_id = p.id AND c.is_deleted = FALSE
+WHERE p.is_deleted = FALSE
+  AND (p.created_at < :'c1000_created_at' OR (p.created_at = :'c1000_created_at' AND p.id < :c1000_id))
+GROUP BY p.id, p.title, u.nickname, p.view_count, p.like_count, p.created_at
+ORDER BY p.created_at DESC, p.id DESC
+LIMIT :size + 1;
+
+\echo '== CURSOR page 50,000 =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id, p.title, u.nickname, p.view_count, p.like_count, COUNT(c.id), p.created_at
+FROM posts p
+JOIN users u ON u.id = p.author_id
+LEFT JOIN comments c ON c.post_id = p.id AND c.is_deleted = FALSE
+WHERE p.is_deleted = FALSE
+  AND (p.created_at < :'c50000_created_at' OR (p.created_at = :'c50000_created_at' AND p.id < :c50000_id))
+GROUP BY p.id, p.title, u.nickname, p.view_count, p.like_count, p.created_at
+ORDER BY p.created_at DESC, p.id DESC
+LIMIT :size + 1;
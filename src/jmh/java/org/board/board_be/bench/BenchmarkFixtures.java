@@ -0,0 +1,89 @@
+package org.board.board_be.bench;
+
+import org.board.board_be.domain.comment.Comment;
+import org.board.board_be.domain.post.Post;
+import org.board.board_be.domain.post.PostFile;
+import org.board.board_be.domain.user.User;
+import org.board.board_be.web.dto.PostListResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 고정 데이터 (DB 없이 엔티티/DTO 생성)
+ */
+final class BenchmarkFixtures {
+
+    static final Instant NOW = Instant.parse("2025-11-19T13:51:02.744Z");
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user(long id) {
+        return User.builder()
+                .id(id)
+                .username("user" + id)
+                .password("password")
+                .nickname("사용자" + id)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static Post post(long id, int fileCount) {
+        Post post = Post.builder()
+                .id(id)
+                .title("게시글 제목 " + id)
+                .content("게시글 본문입니다. ".repeat(100))
+                .author(user(1))
+                .viewCount(1_234L)
+                .likeCount(56L)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+        for (int i = 0; i < fileCount; i++) {
+            post.addFile(PostFile.builder()
+                    .id((long) i)
+                    .fileUrl("/uploads/" + i + ".jpg")
+                    .originalName("image" + i + ".jpg")
+                    .fileSize(512_000L)
+                    .mimeType("image/jpeg")
+                    .createdAt(NOW)
+                    .build());
+        }
+        return post;
+    }
+
+    /**
+     * 작성순 댓글 (4개 중 1개는 최상위, 나머지는 직전 최상위의 대댓글)
+     */
+    static List<Comment> comments(Post post, int count) {
+        List<Comment> comments = new ArrayList<>(count);
+        Comment root = null;
+        for (int i = 0; i < count; i++) {
+            Comment comment = Comment.builder()
+                    .id((long) i + 1)
+                    .post(post)
+                    .author(user(i % 50 + 1))
+                    .content("댓글 내용 " + i)
+                    .parent(i % 4 == 0 ? null : root)
+                    .createdAt(NOW.plusSeconds(i))
+                    .build();
+            if (i % 4 == 0) {
+                root = comment;
+            }
+            comments.add(comment);
+        }
+        return comments;
+    }
+
+    static List<PostListResponse> listRows(int count) {
+        List<PostListResponse> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new PostListResponse((long) i, "게시글 제목 " + i, "사용자" + i,
+                    1_234L, 56L, 7L, NOW.minusSeconds(i)));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,41 @@
+package org.board.board_be.bench;
+
+import org.board.board_be.domain.comment.Comment;
+import org.board.board_be.web.dto.CommentResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대형 댓글 스레드의 CommentResponse 변환 / 트리 구성 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CommentMappingBenchmark {
+
+    @Param({"100", "2000", "20000"})
+    public int commentCount;
+
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        comments = BenchmarkFixtures.comments(BenchmarkFixtures.post(1L, 0), commentCount);
+    }
+
+    @Benchmark
+    public List<CommentResponse> mapFlat() {
+        return comments.stream()
+                .map(comment -> CommentResponse.from(comment, 1L))
+                .toList();
+    }
+
+    @Benchmark
+    public List<CommentResponse> mapTree() {
+        return CommentResponse.toTree(comments.stream()
+                .map(comment -> CommentResponse.from(comment, 1L))
+                .toList());
+    }
+}
@@ -0,0 +1,67 @@
+package org.board.board_be.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.board.board_be.web.dto.ApiResult;
+import org.board.board_be.web.dto.PageResponse;
+import org.board.board_be.web.dto.PostListResponse;
+import org.board.board_be.web.json.SerializedJson;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /boards 응답 직렬화 비용
+ * - serializeListResponse: 이전 방식 (Page → PagedModel, PageSerializationMode.VIA_DTO)
+ * - serializeCompactEnvelope: 현재 방식 (PageResponse), 캐시 미적중 시 비용
+ * - cachedGzipBytes: 캐시 적중 시 비용 (압축은 첫 요청에만)
+ * - ObjectMapper 설정은 Spring Boot 기본값과 동일하게 맞춤
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ListSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<PostListResponse> page;
+    private SerializedJson cached;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        page = new PageImpl<>(BenchmarkFixtures.listRows(pageSize),
+                PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")), 100_000);
+        cached = SerializedJson.success(objectMapper, PageResponse.from(page));
+        cached.gzip();
+    }
+
+    @Benchmark
+    public byte[] serializeListResponse() throws Exception {
+        ApiResult<PagedModel<PostListResponse>> result = ApiResult.<PagedModel<PostListResponse>>builder()
+                .success(true)
+                .data(new PagedModel<>(page))
+                .build();
+        return objectMapper.writeValueAsBytes(result);
+    }
+
+    @Benchmark
+    public byte[] serializeCompactEnvelope() {
+        return SerializedJson.success(objectMapper, PageResponse.from(page)).json();
+    }
+
+    @Benchmark
+    public byte[] cachedGzipBytes() {
+        return cached.toResponse("gzip, deflate, br").getBody();
+    }
+}
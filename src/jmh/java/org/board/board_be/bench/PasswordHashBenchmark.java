@@ -0,0 +1,34 @@
+package org.board.board_be.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 한 번의 BCrypt 검증 비용 (cost별)
+ * - 코어 하나의 초당 로그인 처리량 ≈ 1 / score
+ * - 애플리케이션 전체 처리량 ≈ board.password.threads / score (k6/login.js로 확인)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class PasswordHashBenchmark {
+
+    @Param({"8", "10", "12"})
+    public int cost;
+
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        hash = BCrypt.hashpw("benchmark-password", BCrypt.gensalt(cost));
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return BCrypt.checkpw("benchmark-password", hash);
+    }
+}
@@ -0,0 +1,58 @@
+package org.board.board_be.bench;
+
+import org.board.board_be.domain.post.Post;
+import org.board.board_be.web.dto.CommentResponse;
+import org.board.board_be.web.dto.PostListResponse;
+import org.board.board_be.web.dto.PostResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록/상세 응답 DTO 생성 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PostResponseBenchmark {
+
+    private Post post;
+    private List<CommentResponse> comments;
+    private PostResponse cachedDetail;
+
+    @Setup
+    public void setUp() {
+        post = BenchmarkFixtures.post(1L, 5);
+        comments = BenchmarkFixtures.comments(post, 50).stream()
+                .map(comment -> CommentResponse.from(comment, null))
+                .toList();
+        cachedDetail = PostResponse.from(post, comments, null);
+    }
+
+    @Benchmark
+    public PostResponse postResponseFrom() {
+        return PostResponse.from(post, comments, 1L);
+    }
+
+    /**
+     * 상세 캐시 적중 시 요청마다 수행하는 isAuthor 재계산
+     */
+    @Benchmark
+    public PostResponse postResponseForViewer() {
+        return cachedDetail.forViewer(1L);
+    }
+
+    /**
+     * 한 페이지(20건) 목록 DTO 생성 (JPQL 생성자 projection과 같은 경로)
+     */
+    @Benchmark
+    public List<PostListResponse> postListPage() {
+        List<PostListResponse> rows = new ArrayList<>(20);
+        for (int i = 0; i < 20; i++) {
+            rows.add(new PostListResponse((long) i, "게시글 제목", "사용자", 1_234L, 56L, 7L, BenchmarkFixtures.NOW));
+        }
+        return rows;
+    }
+}
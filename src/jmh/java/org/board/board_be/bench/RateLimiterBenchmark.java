@@ -0,0 +1,38 @@
+package org.board.board_be.bench;
+
+import org.board.board_be.web.ratelimit.TokenBucketRateLimiter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기 API 요청당 속도 제한 판정 비용 (TokenBucketRateLimiter.tryAcquire)
+ * - 여러 스레드가 users 명의 키에 고르게 요청 (같은 키 CAS 경합 포함)
+ * - 허용되는 경우가 대부분이 되도록 넉넉한 속도 사용 (거절 경로는 CAS도 없어 더 가벼움)
+ * - 목표: 스레드당 평균 1µs 미만 (요청 처리 시간 대비 무시 가능)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+public class RateLimiterBenchmark {
+
+    @Param({"100", "100000"})
+    public int users;
+
+    private TokenBucketRateLimiter limiter;
+
+    @Setup
+    public void setUp() {
+        limiter = new TokenBucketRateLimiter(Integer.MAX_VALUE, 1_000_000, 16);
+        for (long user = 0; user < users; user++) {
+            limiter.tryAcquire(user, System.nanoTime());
+        }
+    }
+
+    @Benchmark
+    public long tryAcquire() {
+        return limiter.tryAcquire(ThreadLocalRandom.current().nextInt(users), System.nanoTime());
+    }
+}
@@ -0,0 +1,12 @@
+package org.board.board_be.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 배치성 백그라운드 작업(@Scheduled) 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
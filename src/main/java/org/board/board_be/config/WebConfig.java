@@ -1,20 +1,32 @@
 package org.board.board_be.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import lombok.RequiredArgsConstructor;
+import org.board.board_be.web.interceptor.SqlAccountingInterceptor;
+import org.board.board_be.web.ratelimit.RateLimitInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * CORS 설정
  * - 프론트엔드(localhost:5173)에서 API 요청 허용
+ * 인터셉터
+ * - 요청별 SQL 사용량 집계 / N+1 감지
+ * - 쓰기 API 사용자별 속도 제한 (@RateLimited)
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
-    @Value("${file.upload-dir:uploads}")
-    private String uploadDir;
+    private final SqlAccountingInterceptor sqlAccountingInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor);
+        registry.addInterceptor(sqlAccountingInterceptor);
+    }
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -30,10 +42,4 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true)
                 .maxAge(3600);  // preflight 캐시 1시간
     }
-
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:" + uploadDir + "/");
-    }
 }
@@ -0,0 +1,83 @@
+package org.board.board_be.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션을 레플리카로 보내는 데이터소스 구성 (board.datasource.replica.enabled=true)
+ * - 애플리케이션이 쓰는 DataSource는 LazyConnectionDataSourceProxy:
+ *   트랜잭션 시작 시 readOnly 여부가 정해진 뒤 실제 커넥션을 얻으므로
+ *   @Transactional(readOnly = true)는 레플리카, 나머지는 프라이머리로 감
+ * - 프라이머리는 spring.datasource.*, 레플리카는 board.datasource.replica.urls (쉼표 구분)
+ * - 레플리카 계정을 지정하지 않으면 프라이머리 계정 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${board.datasource.replica.urls:}") String[] urls,
+            @Value("${board.datasource.replica.username:}") String username,
+            @Value("${board.datasource.replica.password:}") String password,
+            @Value("${board.datasource.replica.maximum-pool-size:${spring.datasource.hikari.maximum-pool-size:10}}") int maximumPoolSize,
+            @Value("${board.datasource.replica.connection-timeout:1s}") Duration connectionTimeout,
+            @Value("${board.datasource.replica.max-lag:1s}") Duration maxLag) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(StringUtils.hasText(username) ? username : properties.determineUsername());
+            replica.setPassword(StringUtils.hasText(username) ? password : properties.determinePassword());
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setReadOnly(true);
+            // 장애 레플리카에서 오래 기다리지 않고 다음 레플리카/프라이머리로 넘어가도록 짧게
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            // 기동 시 레플리카가 내려가 있어도 애플리케이션은 뜨고, 헬스 체크가 회복을 감지
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLag, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(replicaRoutingDataSource);
+        return proxy;
+    }
+}
@@ -0,0 +1,176 @@
+package org.board.board_be.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션용 데이터소스 (LazyConnectionDataSourceProxy의 readOnlyDataSource)
+ * - 정상이고 WAL 수신 중이며 복제 지연이 max-lag 이하인 레플리카를 라운드 로빈으로 선택
+ * - 커넥션 획득에 실패한 레플리카는 즉시 비정상 처리하고 다음 레플리카 시도
+ * - 쓸 수 있는 레플리카가 없으면 프라이머리로 처리
+ * - 상태/지연은 health-check-interval-ms 마다 확인, 회복되면 다시 라우팅 대상
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    // 1: WAL 수신 중 여부 - 수신이 끊기면 받은 WAL을 다 적용해도 따라잡은 게 아님
+    //    (status는 pg_read_all_stats 권한이 있어야 보임, 예: GRANT pg_monitor TO board_user)
+    // 2: 복제 지연 - 수신 중이고 받은 WAL을 모두 적용했으면 0, 아니면 마지막 적용 트랜잭션 이후 시간
+    private static final String LAG_QUERY = """
+            SELECT NOT pg_is_in_recovery()
+                     OR EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming'),
+                   CASE
+                     WHEN NOT pg_is_in_recovery() THEN 0
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn()
+                          AND EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN 0
+                     ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END
+            """;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryFallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    List<HikariDataSource> replicas,
+                                    Duration maxLag,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLagMillis = maxLag.toMillis();
+        this.primaryFallbacks = Counter.builder("board.datasource.replica.fallbacks")
+                .description("쓸 수 있는 레플리카가 없어 프라이머리에서 처리한 읽기 커넥션 수")
+                .register(meterRegistry);
+        for (Replica replica : this.replicas) {
+            Gauge.builder("board.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("pool", replica.name())
+                    .register(meterRegistry);
+            Gauge.builder("board.datasource.replica.streaming", replica, r -> r.streaming ? 1 : 0)
+                    .tag("pool", replica.name())
+                    .register(meterRegistry);
+            Gauge.builder("board.datasource.replica.lag", replica, r -> r.lagMillis)
+                    .tag("pool", replica.name())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.usable(maxLagMillis)) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException ex) {
+                replica.markDown(ex);
+            }
+        }
+        primaryFallbacks.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("레플리카 라우팅은 풀에 설정된 계정만 사용합니다.");
+    }
+
+    /**
+     * 각 레플리카의 접속 가능 여부와 복제 지연 확인
+     */
+    @Scheduled(fixedDelayString = "${board.datasource.replica.health-check-interval-ms:2000}")
+    public void checkReplicas() {
+        replicas.forEach(Replica::check);
+    }
+
+    @PreDestroy
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    List<Replica> replicas() {
+        return replicas;
+    }
+
+    static final class Replica {
+        private final HikariDataSource dataSource;
+        // 첫 확인 전에도 라우팅하고, 실패하면 그때 제외
+        private volatile boolean healthy = true;
+        private volatile boolean streaming = true;
+        private volatile long lagMillis;
+
+        Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        String name() {
+            return dataSource.getPoolName();
+        }
+
+        boolean healthy() {
+            return healthy;
+        }
+
+        boolean streaming() {
+            return streaming;
+        }
+
+        long lagMillis() {
+            return lagMillis;
+        }
+
+        boolean usable(long maxLagMillis) {
+            return healthy && streaming && lagMillis <= maxLagMillis;
+        }
+
+        void check() {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(2);
+                boolean wasStreaming = streaming;
+                try (ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                    rs.next();
+                    streaming = rs.getBoolean(1);
+                    lagMillis = rs.getLong(2);
+                }
+                if (wasStreaming && !streaming) {
+                    log.warn("Replica {} is not streaming WAL (last replay {} ms ago)", name(), lagMillis);
+                }
+                if (!healthy) {
+                    log.info("Replica {} is back (lag {} ms)", name(), lagMillis);
+                }
+                healthy = true;
+            } catch (SQLException ex) {
+                markDown(ex);
+            }
+        }
+
+        void markDown(SQLException ex) {
+            if (healthy) {
+                log.warn("Replica {} marked down: {}", name(), ex.getMessage());
+            }
+            healthy = false;
+        }
+    }
+}
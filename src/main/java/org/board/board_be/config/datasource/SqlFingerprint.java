@@ -0,0 +1,82 @@
+package org.board.board_be.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL 모양(fingerprint): 리터럴을 ?로 바꾸고 공백과 IN 목록 길이를 정규화
+ * - "select ... where id=3" 과 "select ... where id=7" 은 같은 모양
+ * - Hibernate 배치 조회처럼 IN (?, ?, ?) 길이만 다른 문장도 같은 모양
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\?(?:, ?\\?)*\\)");
+    private static final Pattern ROW_LIST = Pattern.compile("\\(\\?\\+\\)(?:, ?\\(\\?\\+\\))+");
+
+    // 애플리케이션이 만드는 SQL 종류는 한정적이므로 정규화 결과를 재사용
+    private static final Cache<String, String> CACHE = Caffeine.newBuilder()
+            .maximumSize(5_000)
+            .build();
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        return CACHE.get(sql, SqlFingerprint::normalize);
+    }
+
+    static String normalize(String sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                // 문자열 리터럴 ('' 이스케이프 포함)
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                out.append('?');
+                i++;
+            } else if (Character.isDigit(c) && !isIdentifierPart(out)) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!out.isEmpty() && i < length) {
+                    out.append(' ');
+                }
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        String normalized = PARAMETER_LIST.matcher(out).replaceAll("(?+)");
+        return ROW_LIST.matcher(normalized).replaceAll("(?+)+");
+    }
+
+    private static boolean isIdentifierPart(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char previous = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$' || previous == '"';
+    }
+}
@@ -0,0 +1,20 @@
+package org.board.board_be.config.datasource;
+
+/**
+ * StatementTrackingDataSource가 실행한 SQL을 통지받는 빈
+ * - 실행한 스레드에서 바로 호출되므로 가볍게 처리해야 함
+ */
+public interface SqlStatementListener {
+
+    /**
+     * 문장 실행 직후 (배치는 executeBatch 한 번에 한 번)
+     * @param sql PreparedStatement면 준비된 SQL, 배치면 첫 SQL
+     */
+    void afterExecute(String sql, long elapsedNanos);
+
+    /**
+     * 조회 결과를 닫을 때 읽은 행 수
+     */
+    default void afterFetch(String sql, long rows) {
+    }
+}
@@ -0,0 +1,32 @@
+package org.board.board_be.config.datasource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션이 쓰는 DataSource("dataSource" 빈)를 StatementTrackingDataSource로 감쌈
+ * - 레플리카 라우팅을 켠 경우에도 라우팅 프록시 바깥에서 감싸므로 모든 문장이 잡힘
+ */
+@Configuration(proxyBeanMethods = false)
+public class SqlTrackingConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    static BeanPostProcessor statementTrackingPostProcessor(ObjectProvider<SqlStatementListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof StatementTrackingDataSource)) {
+                    return new StatementTrackingDataSource(dataSource, listeners);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,186 @@
+package org.board.board_be.config.datasource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 실행되는 JDBC 문장을 SqlStatementListener에 알리는 DataSource 래퍼
+ * - Connection/Statement/ResultSet을 JDK 프록시로 감싸 execute* 시간과 읽은 행 수를 측정
+ * - JPA(Hibernate)와 JdbcTemplate 모두 같은 경로로 잡힘
+ * - 리스너가 없으면 감싸지 않은 커넥션을 그대로 반환
+ */
+public class StatementTrackingDataSource extends DelegatingDataSource {
+
+    private static final ClassLoader CLASS_LOADER = StatementTrackingDataSource.class.getClassLoader();
+
+    private final ObjectProvider<SqlStatementListener> listenerProvider;
+    private volatile List<SqlStatementListener> listeners;
+
+    public StatementTrackingDataSource(DataSource target, ObjectProvider<SqlStatementListener> listenerProvider) {
+        super(target);
+        this.listenerProvider = listenerProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        List<SqlStatementListener> current = listeners();
+        if (current.isEmpty()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection, current));
+    }
+
+    // 리스너 빈은 DataSource보다 늦게 만들어질 수 있으므로 첫 커넥션 때 조회
+    private List<SqlStatementListener> listeners() {
+        List<SqlStatementListener> current = listeners;
+        if (current == null) {
+            current = listenerProvider.orderedStream().toList();
+            listeners = current;
+        }
+        return current;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private record ConnectionHandler(Connection target, List<SqlStatementListener> listeners)
+            implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                }
+            }
+            Object result = StatementTrackingDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> statement(result, PreparedStatement.class, (String) args[0]);
+                case "prepareCall" -> statement(result, CallableStatement.class, (String) args[0]);
+                case "createStatement" -> statement(result, Statement.class, null);
+                default -> result;
+            };
+        }
+
+        private Object statement(Object statement, Class<? extends Statement> type, String sql) {
+            return Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{type},
+                    new StatementHandler((Statement) statement, sql, listeners));
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final List<SqlStatementListener> listeners;
+        private String batchSql;
+
+        private StatementHandler(Statement target, String preparedSql, List<SqlStatementListener> listeners) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.listeners = listeners;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("addBatch") && args != null && args.length == 1 && batchSql == null) {
+                batchSql = (String) args[0];
+            }
+            if (!name.startsWith("execute")) {
+                Object result = StatementTrackingDataSource.invoke(target, method, args);
+                return name.equals("getResultSet") && result != null
+                        ? resultSet((ResultSet) result, preparedSql) : result;
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s
+                    : preparedSql != null ? preparedSql : batchSql;
+            long start = System.nanoTime();
+            Object result = StatementTrackingDataSource.invoke(target, method, args);
+            long elapsed = System.nanoTime() - start;
+            if (name.equals("executeBatch")) {
+                batchSql = null;
+            }
+            for (SqlStatementListener listener : listeners) {
+                listener.afterExecute(sql, elapsed);
+            }
+            return result instanceof ResultSet rs ? resultSet(rs, sql) : result;
+        }
+
+        private Object resultSet(ResultSet resultSet, String sql) {
+            return Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{ResultSet.class},
+                    new ResultSetHandler(resultSet, sql, listeners));
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final String sql;
+        private final List<SqlStatementListener> listeners;
+        private long rows;
+        private boolean reported;
+
+        private ResultSetHandler(ResultSet target, String sql, List<SqlStatementListener> listeners) {
+            this.target = target;
+            this.sql = sql;
+            this.listeners = listeners;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementTrackingDataSource.invoke(target, method, args);
+            switch (method.getName()) {
+                case "next" -> {
+                    if (Boolean.TRUE.equals(result)) {
+                        rows++;
+                    }
+                }
+                case "close" -> {
+                    if (!reported) {
+                        reported = true;
+                        for (SqlStatementListener listener : listeners) {
+                            listener.afterFetch(sql, rows);
+                        }
+                    }
+                }
+                default -> {
+                }
+            }
+            return result;
+        }
+    }
+}
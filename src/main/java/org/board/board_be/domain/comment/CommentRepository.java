@@ -1,12 +1,116 @@
 package org.board.board_be.domain.comment;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    List<Comment> findByPostIdAndIsDeletedFalseOrderByCreatedAtAsc(Long postId);
+    /**
+     * 게시글의 댓글 + 작성자를 한 번에 조회 (최대 limit 개)
+     * - Fetch Join으로 작성자 N+1 제거
+     * - 부모 댓글은 프록시의 ID만 사용하므로 추가 조회 없음
+     */
+    @Query("""
+        SELECT c FROM Comment c
+        JOIN FETCH c.author
+        WHERE c.post.id = :postId AND c.isDeleted = false
+        ORDER BY c.createdAt ASC, c.id ASC
+    """)
+    List<Comment> findAllWithAuthorByPostId(@Param("postId") Long postId, Limit limit);
+
+    /**
+     * 최상위 댓글 첫 페이지 (작성순)
+     * - idx_comments_post_id_created_at (post_id, created_at, id)에서 seek
+     * - 부모가 삭제된 대댓글도 최상위로 취급 (toTree와 동일)
+     */
+    @Query("""
+        SELECT c FROM Comment c
+        JOIN FETCH c.author
+        LEFT JOIN c.parent p
+        WHERE c.post.id = :postId AND c.isDeleted = false
+          AND (c.parent IS NULL OR p.isDeleted = true)
+        ORDER BY c.createdAt ASC, c.id ASC
+    """)
+    List<Comment> findRootsFirst(@Param("postId") Long postId, Limit limit);
+
+    /**
+     * 최상위 댓글 다음 페이지: 커서 (createdAt, id) 이후
+     */
+    @Query("""
+        SELECT c FROM Comment c
+        JOIN FETCH c.author
+        LEFT JOIN c.parent p
+        WHERE c.post.id = :postId AND c.isDeleted = false
+          AND (c.parent IS NULL OR p.isDeleted = true)
+          AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))
+        ORDER BY c.createdAt ASC, c.id ASC
+    """)
+    List<Comment> findRootsAfter(@Param("postId") Long postId,
+                                 @Param("createdAt") Instant createdAt,
+                                 @Param("id") Long id,
+                                 Limit limit);
+
+    /**
+     * 대댓글 첫 페이지 (작성순), idx_comments_parent_id_created_at에서 seek
+     */
+    @Query("""
+        SELECT c FROM Comment c
+        JOIN FETCH c.author
+        WHERE c.post.id = :postId AND c.parent.id = :parentId AND c.isDeleted = false
+        ORDER BY c.createdAt ASC, c.id ASC
+    """)
+    List<Comment> findRepliesFirst(@Param("postId") Long postId, @Param("parentId") Long parentId, Limit limit);
+
+    @Query("""
+        SELECT c FROM Comment c
+        JOIN FETCH c.author
+        WHERE c.post.id = :postId AND c.parent.id = :parentId AND c.isDeleted = false
+          AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))
+        ORDER BY c.createdAt ASC, c.id ASC
+    """)
+    List<Comment> findRepliesAfter(@Param("postId") Long postId,
+                                   @Param("parentId") Long parentId,
+                                   @Param("createdAt") Instant createdAt,
+                                   @Param("id") Long id,
+                                   Limit limit);
+
+    /**
+     * 부모 댓글별 대댓글 미리보기 ID (작성순 앞 limit개) + 부모별 대댓글 수
+     */
+    @Query(value = """
+        SELECT t.id AS "id", t.parent_id AS "parentId", t.reply_count AS "replyCount"
+        FROM (
+            SELECT c.id, c.parent_id,
+                   COUNT(*) OVER (PARTITION BY c.parent_id) AS reply_count,
+                   ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at, c.id) AS rn
+            FROM comments c
+            WHERE c.parent_id IN (:parentIds) AND c.is_deleted = false
+        ) t
+        WHERE t.rn <= :limit
+    """, nativeQuery = true)
+    List<ReplyPreviewRow> findReplyPreview(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
+
+    @Query("""
+        SELECT c FROM Comment c
+        JOIN FETCH c.author
+        WHERE c.id IN :ids
+        ORDER BY c.createdAt ASC, c.id ASC
+    """)
+    List<Comment> findAllWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface ReplyPreviewRow {
+        Long getId();
+
+        Long getParentId();
+
+        Long getReplyCount();
+    }
 }
@@ -0,0 +1,37 @@
+package org.board.board_be.domain.file;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 내용 주소 기반(content-addressed) 저장 파일
+ * - storageKey = SHA-256(hex) + 확장자 → 같은 내용은 디스크에 한 번만 저장
+ * - refCount = 이 파일을 가리키는 post_files 행 수 (StoredFileRepository의 native 쿼리로만 변경)
+ */
+@Entity
+@Table(name = "stored_files")
+@Getter
+@NoArgsConstructor
+public class StoredFile {
+
+    public static final int HASH_LENGTH = 64;
+
+    @Id
+    @Column(length = 80)
+    private String storageKey;
+
+    @Column(nullable = false)
+    private Long fileSize;
+
+    @Column(nullable = false)
+    private Integer refCount = 0;
+
+    @Column(nullable = false)
+    private Instant createdAt = Instant.now();
+
+    @Column(nullable = false)
+    private Instant updatedAt = Instant.now();
+}
@@ -0,0 +1,54 @@
+package org.board.board_be.domain.file;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+
+    /**
+     * 참조 등록 (없으면 생성, 있으면 ref_count 증가)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO stored_files (storage_key, file_size, ref_count, created_at, updated_at)
+        VALUES (:storageKey, :fileSize, :count, now(), now())
+        ON CONFLICT (storage_key)
+        DO UPDATE SET ref_count = stored_files.ref_count + EXCLUDED.ref_count, updated_at = now()
+    """, nativeQuery = true)
+    int acquire(@Param("storageKey") String storageKey, @Param("fileSize") long fileSize, @Param("count") int count);
+
+    /**
+     * 저장 키 단위 트랜잭션 잠금 (업로드 재사용 ↔ UploadGarbageCollector 삭제 직렬화, 커밋/롤백 시 해제)
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext(:storageKey))", nativeQuery = true)
+    Integer lock(@Param("storageKey") String storageKey);
+
+    /**
+     * 재사용 표시 (참조 수 0인 행의 정리 시점을 뒤로 미룸)
+     */
+    @Modifying
+    @Query(value = "UPDATE stored_files SET updated_at = now() WHERE storage_key = :storageKey", nativeQuery = true)
+    int touch(@Param("storageKey") String storageKey);
+
+    /**
+     * 게시글에 첨부된 파일들의 참조 해제
+     * - 같은 파일이 여러 번 첨부된 경우 첨부 수만큼 감소
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE stored_files s
+        SET ref_count = GREATEST(s.ref_count - r.cnt, 0), updated_at = now()
+        FROM (
+            SELECT storage_key, COUNT(*) AS cnt
+            FROM post_files
+            WHERE post_id = :postId AND storage_key IS NOT NULL
+            GROUP BY storage_key
+        ) r
+        WHERE s.storage_key = r.storage_key
+    """, nativeQuery = true)
+    int releaseByPostId(@Param("postId") Long postId);
+}
@@ -20,7 +20,9 @@ import java.util.List;
 public class Post {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시퀀스 pooled 할당 (50개 단위) → INSERT JDBC 배치 가능 (V9__sequence_id_generation.sql)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_id_seq")
+    @SequenceGenerator(name = "posts_id_seq", sequenceName = "posts_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 150)
@@ -30,17 +32,24 @@ public class Post {
     private String content;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "author_id", nullable = false)
+    @JoinColumn(name = "author_id", nullable = false, foreignKey = @ForeignKey(name = "fk_posts_author"))
     private User author;
 
-    @Column(nullable = false)
+    // 조회수 - ViewCountService가 배치 UPDATE로만 변경
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Long viewCount = 0L;
 
-    @Column(nullable = false)
+    // 좋아요 수 - LikeService가 배치 UPDATE로만 변경
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Long likeCount = 0L;
 
+    // 삭제되지 않은 댓글 수 (비정규화) - CommentService에서 원자적 UPDATE로만 변경
+    @Column(nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long commentCount = 0L;
+
     @Column(nullable = false)
     @Builder.Default
     private Boolean isDeleted = false;
@@ -78,8 +87,4 @@ public class Post {
     public void setDeleted(Boolean deleted) {
         isDeleted = deleted;
     }
-
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
 }
@@ -17,7 +17,8 @@ import java.time.Instant;
 public class PostFile {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_files_id_seq")
+    @SequenceGenerator(name = "post_files_id_seq", sequenceName = "post_files_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -36,6 +37,10 @@ public class PostFile {
     @Column(nullable = false, length = 50)
     private String mimeType;
 
+    // stored_files.storage_key (내용 주소 기반 저장 이전 파일은 null)
+    @Column(length = 80)
+    private String storageKey;
+
     @Column(nullable = false)
     @Builder.Default
     private Instant createdAt = Instant.now();
@@ -0,0 +1,43 @@
+package org.board.board_be.domain.post;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * 게시글 좋아요 (사용자당 1회)
+ * - 등록/취소는 PostLikeRepository의 native 쿼리로 처리 (posts 행을 잠그지 않음)
+ */
+@Entity
+@Table(name = "post_likes")
+@IdClass(PostLike.PostLikeId.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostLike {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private Instant createdAt = Instant.now();
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class PostLikeId implements Serializable {
+        private Long postId;
+        private Long userId;
+    }
+}
@@ -0,0 +1,32 @@
+package org.board.board_be.domain.post;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostLikeRepository extends JpaRepository<PostLike, PostLike.PostLikeId> {
+
+    /**
+     * 좋아요 등록 (이미 있으면 무시)
+     * - FK 검사는 posts 행에 FOR KEY SHARE 락만 잡으므로 동시 등록끼리 직렬화되지 않음
+     * @return 새로 등록되면 1, 이미 있으면 0
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO post_likes (post_id, user_id, created_at)
+        VALUES (:postId, :userId, now())
+        ON CONFLICT (post_id, user_id) DO NOTHING
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    /**
+     * 좋아요 취소
+     * @return 삭제되면 1, 없으면 0
+     */
+    @Modifying
+    @Query(value = "DELETE FROM post_likes WHERE post_id = :postId AND user_id = :userId", nativeQuery = true)
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+}
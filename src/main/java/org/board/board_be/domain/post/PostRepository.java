@@ -1,13 +1,18 @@
 package org.board.board_be.domain.post;
 
 import org.board.board_be.web.dto.PostListResponse;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
+
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
@@ -15,7 +20,8 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * 메인페이지용 게시글 목록 조회 (쿼리 최적화)
      * - Fetch Join으로 N+1 문제 해결
      * - DTO Projection으로 필요한 필드만 조회
-     * - 댓글 수 COUNT로 함께 조회
+     * - 댓글 수는 비정규화 컬럼(comment_count) 사용 → JOIN/GROUP BY 없이 인덱스 범위 스캔
+     * - 키워드 검색은 PostSearchService(search_vector)에서 처리
      */
     @Query("""
         SELECT new org.board.board_be.web.dto.PostListResponse(
@@ -24,20 +30,150 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             u.nickname,
             p.viewCount,
             p.likeCount,
-            COUNT(c.id),
+            p.commentCount,
             p.createdAt
         )
         FROM Post p
         JOIN p.author u
-        LEFT JOIN Comment c ON c.post.id = p.id AND c.isDeleted = false
         WHERE p.isDeleted = false
-          AND (:keyword = '' OR :keyword IS NULL
-               OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
-               OR LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')))
-        GROUP BY p.id, p.title, u.nickname, p.viewCount, p.likeCount, p.createdAt
         ORDER BY p.createdAt DESC
     """)
-    Page<PostListResponse> searchList(@Param("keyword") String keyword, Pageable pageable);
+    Page<PostListResponse> searchList(Pageable pageable);
+
+    /**
+     * 키워드 검색 결과 ID 목록 (랭킹순)
+     * - search_vector GIN 인덱스(idx_posts_search_vector) 사용
+     * - 제목(A) 가중치가 본문(B)보다 높게 반영됨
+     * - pageable은 정렬 없이 전달해야 함 (native 쿼리)
+     */
+    @Query(value = """
+        SELECT p.id
+        FROM posts p
+        WHERE p.is_deleted = false
+          AND p.search_vector @@ to_tsquery('simple', :query)
+        ORDER BY ts_rank(p.search_vector, to_tsquery('simple', :query)) DESC, p.created_at DESC, p.id DESC
+    """,
+    countQuery = """
+        SELECT COUNT(*)
+        FROM posts p
+        WHERE p.is_deleted = false
+          AND p.search_vector @@ to_tsquery('simple', :query)
+    """,
+    nativeQuery = true)
+    Page<Long> searchRankedIds(@Param("query") String query, Pageable pageable);
+
+    /**
+     * 검색 결과 ID 목록 → 목록 응답 (순서는 호출 측에서 복원)
+     */
+    @Query("""
+        SELECT new org.board.board_be.web.dto.PostListResponse(
+            p.id,
+            p.title,
+            u.nickname,
+            p.viewCount,
+            p.likeCount,
+            p.commentCount,
+            p.createdAt
+        )
+        FROM Post p
+        JOIN p.author u
+        WHERE p.id IN :ids
+    """)
+    List<PostListResponse> findListByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * 댓글 수 증감 (원자적 UPDATE)
+     * - 삭제된 게시글이면 0 반환
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :id AND p.isDeleted = false")
+    int addCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    /**
+     * 검색 색인 갱신 (n-gram 토큰 → tsvector)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE posts
+        SET search_vector = setweight(to_tsvector('simple', :titleTokens), 'A')
+                         || setweight(to_tsvector('simple', :contentTokens), 'B')
+        WHERE id = :id
+    """, nativeQuery = true)
+    void updateSearchVector(@Param("id") Long id,
+                            @Param("titleTokens") String titleTokens,
+                            @Param("contentTokens") String contentTokens);
+
+    /**
+     * 검색 색인 제거 (삭제된 게시글)
+     */
+    @Modifying
+    @Query(value = "UPDATE posts SET search_vector = NULL WHERE id = :id", nativeQuery = true)
+    void clearSearchVector(@Param("id") Long id);
+
+    /**
+     * 커서 페이징 - 첫 페이지
+     * - idx_posts_created_at (created_at DESC, id DESC) 순서 그대로 조회
+     * - COUNT 쿼리 없음 (limit + 1건으로 다음 페이지 여부 판단)
+     */
+    @Query("""
+        SELECT new org.board.board_be.web.dto.PostListResponse(
+            p.id,
+            p.title,
+            u.nickname,
+            p.viewCount,
+            p.likeCount,
+            p.commentCount,
+            p.createdAt
+        )
+        FROM Post p
+        JOIN p.author u
+        WHERE p.isDeleted = false
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    List<PostListResponse> findListFirst(Limit limit);
+
+    /**
+     * 커서 페이징 - 커서 이후(더 오래된) 게시글
+     */
+    @Query("""
+        SELECT new org.board.board_be.web.dto.PostListResponse(
+            p.id,
+            p.title,
+            u.nickname,
+            p.viewCount,
+            p.likeCount,
+            p.commentCount,
+            p.createdAt
+        )
+        FROM Post p
+        JOIN p.author u
+        WHERE p.isDeleted = false
+          AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    List<PostListResponse> findListBefore(@Param("createdAt") Instant createdAt, @Param("id") Long id, Limit limit);
+
+    /**
+     * 커서 페이징 - 커서 이전(더 최신) 게시글
+     * - 오름차순으로 조회하므로 호출 측에서 순서를 뒤집어야 함
+     */
+    @Query("""
+        SELECT new org.board.board_be.web.dto.PostListResponse(
+            p.id,
+            p.title,
+            u.nickname,
+            p.viewCount,
+            p.likeCount,
+            p.commentCount,
+            p.createdAt
+        )
+        FROM Post p
+        JOIN p.author u
+        WHERE p.isDeleted = false
+          AND (p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id))
+        ORDER BY p.createdAt ASC, p.id ASC
+    """)
+    List<PostListResponse> findListAfter(@Param("createdAt") Instant createdAt, @Param("id") Long id, Limit limit);
 
     /**
      * 상세 조회용 (기존)
@@ -50,4 +186,6 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         WHERE p.id = :id AND p.isDeleted = false
     """)
     Post findByIdWithDetails(@Param("id") Long id);
+
+    boolean existsByIdAndIsDeletedFalse(Long id);
 }
@@ -17,7 +17,8 @@ import java.time.Instant;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 50, unique = true)
@@ -26,6 +27,11 @@ public class User {
     @Column(nullable = false, length = 255)
     private String password;
 
+    // BCrypt cost, 0이면 평문 (PasswordHasher 참고)
+    @Column(nullable = false)
+    @Builder.Default
+    private int passwordCost = 0;
+
     @Column(nullable = false, length = 50)
     private String nickname;
 
@@ -1,8 +1,13 @@
 package org.board.board_be.domain.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +16,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
 
     boolean existsByUsername(String username);
+
+    /**
+     * 비밀번호 해시 교체 (읽은 뒤 다른 요청이 먼저 바꿨으면 갱신하지 않음)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :password, u.passwordCost = :cost, u.updatedAt = :now "
+            + "WHERE u.id = :id AND u.password = :previous")
+    int updatePassword(@Param("id") Long id,
+                       @Param("previous") String previous,
+                       @Param("password") String password,
+                       @Param("cost") int cost,
+                       @Param("now") Instant now);
 }
@@ -0,0 +1,33 @@
+package org.board.board_be.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/slowqueries (관리 포트 management.server.port 에서만 노출)
+ * - GET: SQL 모양별 통계 (총 실행 시간 순, ?limit=N 기본 20)
+ * - DELETE: 통계 초기화 (배포/튜닝 전후 비교용)
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SlowQueryRecorder slowQueryRecorder;
+
+    @ReadOperation
+    public SlowQueryRecorder.Snapshot slowQueries(@Nullable Integer limit) {
+        return slowQueryRecorder.snapshot(limit == null || limit < 1 ? DEFAULT_LIMIT : limit);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        slowQueryRecorder.reset();
+    }
+}
@@ -0,0 +1,186 @@
+package org.board.board_be.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.board.board_be.config.datasource.SqlFingerprint;
+import org.board.board_be.config.datasource.SqlStatementListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 모양(fingerprint)별 실행 시간 통계 + 느린 쿼리 표본
+ * - 모든 문장의 시간을 모양별 고정 구간 히스토그램에 누적 (카운터 증가만, 잠금 없음)
+ * - threshold 이상 걸린 문장은 모양별로 가장 느린 top-n 개 표본을 보관
+ *   표본과 로그에는 원문 대신 모양만 남김 (리터럴로 들어온 개인정보/토큰이 노출되지 않게)
+ * - 모양 수는 max-fingerprints 로 제한, 넘치면 새 모양은 집계하지 않고 dropped로만 셈
+ * - 느린 쿼리 로그는 큐에 넣고 스케줄러 스레드가 기록 → 요청 스레드에서 로그 I/O 없음
+ * - 조회/초기화는 /actuator/slowqueries (SlowQueryEndpoint)
+ */
+@Slf4j
+@Component
+public class SlowQueryRecorder implements SqlStatementListener {
+
+    // 히스토그램 구간 상한 (ms), 마지막 구간은 그 이상 전부
+    static final long[] BUCKETS_MS = {1, 5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000};
+
+    private final Map<String, FingerprintStats> stats = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final BlockingQueue<SlowQuery> pendingLogs;
+    private final boolean enabled;
+    private final long thresholdNanos;
+    private final int topN;
+    private final int maxFingerprints;
+
+    public SlowQueryRecorder(@Value("${board.sql.slow-query.enabled:true}") boolean enabled,
+                             @Value("${board.sql.slow-query.threshold:200ms}") Duration threshold,
+                             @Value("${board.sql.slow-query.top-n:5}") int topN,
+                             @Value("${board.sql.slow-query.max-fingerprints:500}") int maxFingerprints,
+                             @Value("${board.sql.slow-query.log-queue-capacity:1000}") int logQueueCapacity) {
+        this.enabled = enabled;
+        this.thresholdNanos = threshold.toNanos();
+        this.topN = topN;
+        this.maxFingerprints = maxFingerprints;
+        this.pendingLogs = new ArrayBlockingQueue<>(logQueueCapacity);
+    }
+
+    @Override
+    public void afterExecute(String sql, long elapsedNanos) {
+        if (!enabled || sql == null) {
+            return;
+        }
+        String fingerprint = SqlFingerprint.of(sql);
+        FingerprintStats entry = stats.get(fingerprint);
+        if (entry == null) {
+            if (stats.size() >= maxFingerprints) {
+                dropped.increment();
+                return;
+            }
+            entry = stats.computeIfAbsent(fingerprint, FingerprintStats::new);
+        }
+        entry.record(elapsedNanos);
+        if (elapsedNanos >= thresholdNanos) {
+            SlowQuery sample = new SlowQuery(fingerprint, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    Instant.now(), Thread.currentThread().getName());
+            entry.offer(sample, topN);
+            // 가득 차면 로그만 버림 (표본/통계에는 이미 반영)
+            pendingLogs.offer(sample);
+        }
+    }
+
+    /**
+     * 쌓인 느린 쿼리 로그 기록
+     */
+    @Scheduled(fixedDelayString = "${board.sql.slow-query.log-interval-ms:5000}")
+    public void flushLogs() {
+        List<SlowQuery> batch = new ArrayList<>();
+        pendingLogs.drainTo(batch);
+        for (SlowQuery query : batch) {
+            log.warn("Slow query {} ms [{}] {}", query.elapsedMs(), query.thread(), query.fingerprint());
+        }
+    }
+
+    /**
+     * 총 실행 시간이 큰 순서로 limit 개
+     */
+    public Snapshot snapshot(int limit) {
+        List<FingerprintSnapshot> fingerprints = stats.values().stream()
+                .map(FingerprintStats::snapshot)
+                .sorted(Comparator.comparingLong(FingerprintSnapshot::totalMs).reversed())
+                .limit(limit)
+                .toList();
+        return new Snapshot(TimeUnit.NANOSECONDS.toMillis(thresholdNanos), stats.size(), dropped.sum(), fingerprints);
+    }
+
+    public void reset() {
+        stats.clear();
+        dropped.reset();
+    }
+
+    public record SlowQuery(String fingerprint, long elapsedMs, Instant at, String thread) {
+    }
+
+    public record FingerprintSnapshot(String fingerprint, long count, long totalMs, double meanMs, long maxMs,
+                                      Map<String, Long> histogram, List<SlowQuery> slowest) {
+    }
+
+    public record Snapshot(long thresholdMs, int fingerprintCount, long droppedStatements,
+                           List<FingerprintSnapshot> fingerprints) {
+    }
+
+    private static final class FingerprintStats {
+        private final String fingerprint;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS_MS.length + 1);
+        // 느린 문장에서만 갱신되므로 단순 잠금
+        private final List<SlowQuery> slowest = new ArrayList<>();
+
+        private FingerprintStats(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private void record(long elapsedNanos) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            buckets.incrementAndGet(bucketOf(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)));
+        }
+
+        private synchronized void offer(SlowQuery sample, int topN) {
+            if (slowest.size() < topN) {
+                slowest.add(sample);
+                return;
+            }
+            int fastest = 0;
+            for (int i = 1; i < slowest.size(); i++) {
+                if (slowest.get(i).elapsedMs() < slowest.get(fastest).elapsedMs()) {
+                    fastest = i;
+                }
+            }
+            if (slowest.get(fastest).elapsedMs() < sample.elapsedMs()) {
+                slowest.set(fastest, sample);
+            }
+        }
+
+        private FingerprintSnapshot snapshot() {
+            long n = count.sum();
+            long nanos = totalNanos.sum();
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < BUCKETS_MS.length; i++) {
+                histogram.put("le_" + BUCKETS_MS[i] + "ms", buckets.get(i));
+            }
+            histogram.put("gt_" + BUCKETS_MS[BUCKETS_MS.length - 1] + "ms", buckets.get(BUCKETS_MS.length));
+            List<SlowQuery> samples;
+            synchronized (this) {
+                samples = slowest.stream()
+                        .sorted(Comparator.comparingLong(SlowQuery::elapsedMs).reversed())
+                        .toList();
+            }
+            return new FingerprintSnapshot(fingerprint, n, TimeUnit.NANOSECONDS.toMillis(nanos),
+                    n == 0 ? 0 : nanos / 1_000_000.0 / n,
+                    TimeUnit.NANOSECONDS.toMillis(maxNanos.get()), histogram, samples);
+        }
+
+        private static int bucketOf(long elapsedMs) {
+            int i = Arrays.binarySearch(BUCKETS_MS, elapsedMs);
+            return i >= 0 ? i : -i - 1;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.board.board_be.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * posts.comment_count 정합성 보정 작업
+ * - 비정규화된 댓글 수가 실제 댓글 수와 어긋난 게시글만 갱신
+ * - id 구간 단위로 짧은 트랜잭션을 나눠 실행 (락 점유 최소화)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconciler {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${board.comment-count.reconcile-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${board.comment-count.reconcile-cron:0 0 4 * * *}")
+    public void reconcileAll() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM posts", Long.class);
+        if (maxId == null || maxId == 0) {
+            return;
+        }
+
+        int fixed = 0;
+        for (long from = 0; from < maxId; from += batchSize) {
+            fixed += reconcileRange(from, Math.min(from + batchSize, maxId));
+        }
+
+        if (fixed > 0) {
+            log.warn("Comment count drift fixed for {} posts", fixed);
+        }
+    }
+
+    /**
+     * (from, to] 구간 보정
+     * - 먼저 게시글 행을 잠가 진행 중인 댓글 작성/삭제의 증감이 끝나기를 기다린 뒤
+     *   새 스냅샷으로 실제 댓글 수를 세므로 동시 증감을 덮어쓰지 않음
+     */
+    public int reconcileRange(long from, long to) {
+        Integer updated = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForList("SELECT id FROM posts WHERE id > ? AND id <= ? FOR UPDATE",
+                    Long.class, from, to);
+
+            return jdbcTemplate.update("""
+                    UPDATE posts p
+                    SET comment_count = sub.cnt
+                    FROM (
+                        SELECT p2.id, COUNT(c.id) AS cnt
+                        FROM posts p2
+                        LEFT JOIN comments c ON c.post_id = p2.id AND c.is_deleted = false
+                        WHERE p2.id > ? AND p2.id <= ?
+                        GROUP BY p2.id
+                    ) sub
+                    WHERE p.id = sub.id AND p.comment_count <> sub.cnt
+                    """, from, to);
+        });
+        return updated != null ? updated : 0;
+    }
+}
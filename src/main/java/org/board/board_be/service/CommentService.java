@@ -3,16 +3,24 @@ package org.board.board_be.service;
 import lombok.RequiredArgsConstructor;
 import org.board.board_be.domain.comment.Comment;
 import org.board.board_be.domain.comment.CommentRepository;
-import org.board.board_be.domain.post.Post;
 import org.board.board_be.domain.post.PostRepository;
-import org.board.board_be.domain.user.User;
 import org.board.board_be.domain.user.UserRepository;
+import org.board.board_be.service.event.PostChangedEvent;
 import org.board.board_be.web.dto.CommentRequest;
 import org.board.board_be.web.dto.CommentResponse;
+import org.board.board_be.web.dto.CursorPageResponse;
+import org.board.board_be.web.dto.KeysetCursor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -22,38 +30,178 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-
+    private final ApplicationEventPublisher eventPublisher;
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    // 댓글마다 함께 내려주는 대댓글 수
+    private static final int REPLY_PREVIEW_SIZE = 3;
+    // 전체 조회(all=true) 상한, 넘으면 커서 페이징으로 유도
+    public static final int MAX_FULL_LIST_SIZE = 2_000;
+
+    /**
+     * 게시글의 댓글 전체 조회 (기존 클라이언트 호환용, 기본은 listByCursor)
+     * - MAX_FULL_LIST_SIZE 개를 넘으면 일부만 주지 않고 400
+     */
     @Transactional(readOnly = true)
     public List<CommentResponse> list(Long postId, Long currentUserId) {
-        List<Comment> comments = commentRepository.findByPostIdAndIsDeletedFalseOrderByCreatedAtAsc(postId);
+        List<Comment> comments = commentRepository.findAllWithAuthorByPostId(postId,
+                Limit.of(MAX_FULL_LIST_SIZE + 1));
+        if (comments.size() > MAX_FULL_LIST_SIZE) {
+            throw new IllegalArgumentException(
+                    "댓글이 " + MAX_FULL_LIST_SIZE + "개를 넘어 전체 조회할 수 없습니다. cursor로 페이징하세요");
+        }
         return comments.stream()
                 .map(comment -> CommentResponse.from(comment, currentUserId))
                 .toList();
     }
 
-    public Long create(Long postId, Long userId, CommentRequest request) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다"));
+    /**
+     * 댓글 트리 조회 (대댓글을 replies에 중첩)
+     * - 댓글 + 작성자 한 번의 쿼리, 트리 구성은 메모리에서 O(n)
+     */
+    @Transactional(readOnly = true)
+    public List<CommentResponse> listTree(Long postId, Long currentUserId) {
+        return CommentResponse.toTree(list(postId, currentUserId));
+    }
 
-        User author = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+    /**
+     * 최상위 댓글 커서 페이징 (작성순) + 댓글별 대댓글 미리보기
+     * - 페이지 크기와 무관하게 쿼리 3번 (최상위 댓글, 미리보기 ID/대댓글 수, 미리보기 댓글)
+     * - 미리보기 이후의 대댓글은 listReplies로 조회
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentResponse> listByCursor(Long postId, String cursor, int size, Long currentUserId) {
+        KeysetCursor keyset = decodeForwardCursor(cursor, size);
+        Limit limit = Limit.of(size + 1);
+        List<Comment> roots = new ArrayList<>(keyset == null
+                ? commentRepository.findRootsFirst(postId, limit)
+                : commentRepository.findRootsAfter(postId, keyset.createdAt(), keyset.id(), limit));
+        return toCursorPage(roots, size, keyset != null, currentUserId);
+    }
 
+    /**
+     * 특정 댓글의 대댓글 커서 페이징 (작성순) + 대댓글별 미리보기
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentResponse> listReplies(Long postId, Long parentId, String cursor, int size,
+                                                           Long currentUserId) {
+        KeysetCursor keyset = decodeForwardCursor(cursor, size);
+        Limit limit = Limit.of(size + 1);
+        List<Comment> replies = new ArrayList<>(keyset == null
+                ? commentRepository.findRepliesFirst(postId, parentId, limit)
+                : commentRepository.findRepliesAfter(postId, parentId, keyset.createdAt(), keyset.id(), limit));
+        return toCursorPage(replies, size, keyset != null, currentUserId);
+    }
+
+    private KeysetCursor decodeForwardCursor(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다");
+        }
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+        if (keyset != null && keyset.isPrev()) {
+            throw new IllegalArgumentException("댓글은 다음 페이지 커서만 지원합니다");
+        }
+        return keyset;
+    }
+
+    private CursorPageResponse<CommentResponse> toCursorPage(List<Comment> comments, int size, boolean hasPrev,
+                                                             Long currentUserId) {
+        boolean hasNext = comments.size() > size;
+        if (hasNext) {
+            comments.remove(comments.size() - 1);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = comments.get(comments.size() - 1);
+            nextCursor = KeysetCursor.next(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CursorPageResponse.<CommentResponse>builder()
+                .content(withReplyPreview(comments, currentUserId))
+                .size(size)
+                .hasNext(hasNext)
+                .hasPrev(hasPrev)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 댓글마다 대댓글 수와 앞쪽 대댓글 미리보기를 채움
+     * - 미리보기 대댓글의 replyCount는 계산하지 않음 (listReplies로 조회 시 채워짐)
+     */
+    private List<CommentResponse> withReplyPreview(List<Comment> parents, Long currentUserId) {
+        if (parents.isEmpty()) {
+            return List.of();
+        }
+        List<Long> parentIds = parents.stream().map(Comment::getId).toList();
+        List<CommentRepository.ReplyPreviewRow> rows = commentRepository.findReplyPreview(parentIds, REPLY_PREVIEW_SIZE);
+
+        Map<Long, Long> replyCounts = new HashMap<>();
+        List<Long> previewIds = new ArrayList<>(rows.size());
+        for (CommentRepository.ReplyPreviewRow row : rows) {
+            replyCounts.put(row.getParentId(), row.getReplyCount());
+            previewIds.add(row.getId());
+        }
+        Map<Long, List<CommentResponse>> previews = previewIds.isEmpty()
+                ? Map.of()
+                : commentRepository.findAllWithAuthorByIdIn(previewIds).stream()
+                        .map(reply -> CommentResponse.from(reply, currentUserId))
+                        .collect(Collectors.groupingBy(CommentResponse::getParentId));
+
+        return parents.stream()
+                .map(parent -> CommentResponse.from(parent, currentUserId).toBuilder()
+                        .replyCount(replyCounts.getOrDefault(parent.getId(), 0L))
+                        .replies(new ArrayList<>(previews.getOrDefault(parent.getId(), List.of())))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 댓글 작성
+     * - 게시글/작성자/부모 댓글은 프록시(getReferenceById)로만 연결하고 SELECT 하지 않음
+     *   존재 여부는 INSERT 시 FK 제약이, 삭제된 게시글은 댓글 수 UPDATE 결과(0건)가 검증
+     * - DB 왕복: 댓글 INSERT + 댓글 수 UPDATE
+     */
+    public Long create(Long postId, Long userId, CommentRequest request) {
         Comment.CommentBuilder builder = Comment.builder()
-                .post(post)
-                .author(author)
+                .post(postRepository.getReferenceById(postId))
+                .author(userRepository.getReferenceById(userId))
                 .content(request.getContent());
 
         if (request.getParentId() != null) {
-            Comment parent = commentRepository.findById(request.getParentId())
-                    .orElseThrow(() -> new IllegalArgumentException("부모 댓글을 찾을 수 없습니다"));
-            builder.parent(parent);
+            builder.parent(commentRepository.getReferenceById(request.getParentId()));
+        }
+
+        Comment saved;
+        try {
+            saved = commentRepository.saveAndFlush(builder.build());
+        } catch (DataIntegrityViolationException ex) {
+            throw missingReference(ex);
         }
 
-        Comment comment = builder.build();
-        Comment saved = commentRepository.save(comment);
+        // 댓글 INSERT 이후에 증가시켜야 정합성 보정 작업(CommentCountReconciler)과 경합하지 않음
+        if (postRepository.addCommentCount(postId, 1) == 0) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다");
+        }
+        // COMMENT_ADDED는 postId만 사용하므로 createdAt을 읽으려고 게시글 프록시를 초기화하지 않음
+        eventPublisher.publishEvent(new PostChangedEvent(postId, null, PostChangedEvent.Type.COMMENT_ADDED));
         return saved.getId();
     }
 
+    /**
+     * FK 위반이면 위반된 제약 이름으로 없는 대상을 구분, 그 외 무결성 위반은 그대로 던짐
+     */
+    private static RuntimeException missingReference(DataIntegrityViolationException ex) {
+        return ForeignKeyViolation.constraintOf(ex)
+                .<RuntimeException>map(constraint -> switch (constraint) {
+                    case ForeignKeyViolation.COMMENT_POST -> new IllegalArgumentException("게시글을 찾을 수 없습니다");
+                    case ForeignKeyViolation.COMMENT_AUTHOR -> new IllegalArgumentException("사용자를 찾을 수 없습니다");
+                    case ForeignKeyViolation.COMMENT_PARENT -> new IllegalArgumentException("부모 댓글을 찾을 수 없습니다");
+                    default -> ex;
+                })
+                .orElse(ex);
+    }
+
     public void update(Long postId, Long commentId, Long userId, CommentRequest request) {
         Comment comment = commentRepository.findById(commentId)
                 .filter(c -> !c.getIsDeleted())
@@ -69,6 +217,7 @@ public class CommentService {
         }
 
         comment.setContent(request.getContent());
+        eventPublisher.publishEvent(new PostChangedEvent(postId, null, PostChangedEvent.Type.COMMENT_EDITED));
     }
 
     public void delete(Long postId, Long commentId, Long userId) {
@@ -86,5 +235,7 @@ public class CommentService {
         }
 
         comment.setDeleted(true);
+        postRepository.addCommentCount(postId, -1);
+        eventPublisher.publishEvent(new PostChangedEvent(postId, null, PostChangedEvent.Type.COMMENT_REMOVED));
     }
 }
@@ -1,80 +1,299 @@
 package org.board.board_be.service;
 
+import jakarta.annotation.PreDestroy;
+import org.board.board_be.domain.file.StoredFile;
+import org.board.board_be.domain.file.StoredFileRepository;
+import org.board.board_be.domain.post.PostFile;
+import org.board.board_be.web.exception.ResourceNotFoundException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
+/**
+ * 첨부 파일 저장소 (내용 주소 기반)
+ * - 업로드 스트림을 SHA-256 DigestInputStream으로 감싸 임시 파일에 쓰면서 해시를 함께 계산
+ * - 저장 파일명 = 해시 + 확장자 → 같은 내용을 다시 올려도 디스크에는 한 번만 저장
+ * - 참조 수(stored_files.ref_count)는 게시글 트랜잭션 안에서 acquire/release로 관리
+ * - 한 요청의 여러 파일은 크기가 제한된 전용 스레드 풀에서 병렬로 저장
+ * - 디렉토리는 파일명 앞 4자리(hex)로 2단계 분할: uploads/ab/cd/abcd...jpg
+ *   (분할 이전의 평면 배치도 함께 조회, UploadLayoutMigrator가 온라인으로 이동)
+ */
 @Service
 public class FileStorageService {
 
+    private static final String URL_PREFIX = "/uploads/";
+    private static final Pattern EXTENSION = Pattern.compile("[a-z0-9]{1,10}");
+    private static final Pattern HEX = Pattern.compile("[0-9a-f]+");
+    private static final Pattern SHARD_PREFIX = Pattern.compile("[0-9a-fA-F]{4}.*");
+
+    private final StoredFileRepository storedFileRepository;
+    private final TransactionOperations transactions;
+    private final Path uploadPath;
+    private final Path tempPath;
+    private final ThreadPoolExecutor executor;
+
     // application.yml에 file.upload-dir 설정을 추가해야 합니다.
-    @Value("${file.upload-dir:./uploads}")
-    private String uploadDir;
+    public FileStorageService(StoredFileRepository storedFileRepository,
+                              TransactionOperations transactions,
+                              @Value("${file.upload-dir:./uploads}") String uploadDir,
+                              @Value("${board.upload.parallelism:4}") int parallelism) {
+        this.storedFileRepository = storedFileRepository;
+        this.transactions = transactions;
+        this.uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        // 임시 파일은 같은 파일시스템에 두어야 원자적 rename 가능
+        this.tempPath = uploadPath.resolve(".tmp");
+        AtomicInteger sequence = new AtomicInteger();
+        // 큐가 가득 차면 요청 스레드가 직접 저장 (업로드 폭주 시 자연스러운 배압)
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism * 16),
+                r -> {
+                    Thread thread = new Thread(r, "file-store-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
 
-    public String store(MultipartFile file) {
+    /**
+     * 한 요청의 첨부 파일들을 병렬로 저장
+     * - 하나라도 실패하면 예외 (이미 저장된 파일은 참조가 없으므로 정리 대상)
+     * @return 게시글에 연결할 PostFile 목록 (입력 순서 유지)
+     */
+    public List<PostFile> storeAll(List<MultipartFile> files) {
+        if (files.size() == 1) {
+            return List.of(store(files.get(0)));
+        }
+        List<CompletableFuture<PostFile>> futures = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> store(file), executor))
+                .toList();
         try {
-            // 업로드 디렉토리가 없으면 생성
-            Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException ex) {
+            futures.forEach(future -> future.cancel(true));
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw ex;
+        }
+    }
+
+    public PostFile store(MultipartFile file) {
+        try {
+            Files.createDirectories(tempPath);
 
             // 원본 파일명 정제 (경로 조작 방지)
             String originalFileName = StringUtils.cleanPath(file.getOriginalFilename());
 
-            // 저장할 파일명 생성 (UUID + 확장자)
-            String extension = "";
-            int i = originalFileName.lastIndexOf('.');
-            if (i > 0) {
-                extension = originalFileName.substring(i);
-            }
-            String storedFileName = UUID.randomUUID().toString() + extension;
-
-            // 파일 저장
-            Path targetLocation = uploadPath.resolve(storedFileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            // 1) 임시 파일에 쓰면서 해시 계산 (파일을 두 번 읽지 않음)
+            MessageDigest digest = sha256();
+            Path temp = Files.createTempFile(tempPath, "upload-", ".part");
+            try {
+                try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                    Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+                }
 
-            // 접근 가능한 URL 반환 (예: /uploads/uuid.jpg)
-            // WebConfig에서 /uploads/** 경로를 실제 폴더와 매핑해줘야 함
-            return "/uploads/" + storedFileName;
+                // 2) 해시 + 확장자로 최종 위치 결정, 이미 있으면 임시 파일만 삭제
+                String storageKey = HexFormat.of().formatHex(digest.digest()) + extensionOf(originalFileName);
+                transactions.executeWithoutResult(status -> place(temp, storageKey));
 
+                // WebConfig에서 /uploads/** 경로를 실제 폴더와 매핑
+                return PostFile.builder()
+                        .fileUrl(URL_PREFIX + storageKey)
+                        .storageKey(storageKey)
+                        .originalName(file.getOriginalFilename())
+                        .fileSize(file.getSize())
+                        .mimeType(file.getContentType())
+                        .build();
+            } finally {
+                Files.deleteIfExists(temp);
+            }
         } catch (IOException ex) {
-            throw new RuntimeException("파일을 저장할 수 없습니다. 다시 시도해주세요.", ex);
+            throw new UncheckedIOException("파일을 저장할 수 없습니다. 다시 시도해주세요.", ex);
         }
     }
 
     /**
-     * 파일 다운로드를 위한 Resource 반환
+     * 임시 파일을 저장 키 위치로 옮기거나, 이미 있으면 재사용 표시
+     * - UploadGarbageCollector와 같은 키 잠금 안에서 실행 → 정리 작업이 행/파일을 지우는 중간에 끼지 않음
+     *   (정리가 먼저면 파일이 없으므로 새로 쓰고, 재사용이 먼저면 updated_at이 갱신되어 정리 대상에서 빠짐)
      */
-    public Resource loadFileAsResource(String fileName) {
+    private void place(Path temp, String storageKey) {
+        storedFileRepository.lock(storageKey);
+        Path target = resolve(storageKey);
         try {
-            Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-            Path filePath = uploadPath.resolve(fileName).normalize();
+            if (Files.exists(target)) {
+                // 재사용 표시: UploadGarbageCollector는 최근 수정된 파일/최근 갱신된 행을 지우지 않음
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                storedFileRepository.touch(storageKey);
+            } else {
+                // 같은 내용을 동시에 올려도 rename은 원자적이고 결과가 동일하므로 덮어써도 무방
+                Files.createDirectories(target.getParent());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("파일을 저장할 수 없습니다. 다시 시도해주세요.", ex);
+        }
+    }
 
-            // 경로 조작 공격 방지: uploadPath 외부 파일 접근 차단
-            if (!filePath.startsWith(uploadPath)) {
-                throw new RuntimeException("잘못된 파일 경로입니다.");
+    /**
+     * 파생 파일(썸네일 등) 작성용 임시 파일 (moveIntoPlace로 원자적으로 반영)
+     */
+    public Path createTempFile() throws IOException {
+        Files.createDirectories(tempPath);
+        return Files.createTempFile(tempPath, "derived-", ".part");
+    }
+
+    public void moveIntoPlace(Path temp, String fileName) throws IOException {
+        Path target = resolve(fileName);
+        Files.createDirectories(target.getParent());
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 게시글에 첨부된 파일들의 참조 등록 (게시글 저장 트랜잭션 안에서 호출)
+     * - 키 순서로 갱신해 동시 작성 간 행 잠금 순서를 고정
+     */
+    public void acquire(List<PostFile> files) {
+        Map<String, long[]> counts = new TreeMap<>();
+        for (PostFile file : files) {
+            if (file.getStorageKey() != null) {
+                counts.computeIfAbsent(file.getStorageKey(), key -> new long[]{file.getFileSize(), 0})[1]++;
             }
+        }
+        counts.forEach((key, sizeAndCount) ->
+                storedFileRepository.acquire(key, sizeAndCount[0], (int) sizeAndCount[1]));
+    }
 
-            Resource resource = new UrlResource(filePath.toUri());
+    /**
+     * 게시글 삭제 시 첨부 파일 참조 해제 (참조가 0이 된 파일은 정리 대상)
+     */
+    public void release(Long postId) {
+        storedFileRepository.releaseByPostId(postId);
+    }
+
+    /**
+     * 저장 파일명 → 실제 경로 (존재 여부는 확인하지 않음)
+     * - 분할 배치에 있거나 어디에도 없으면 분할 경로 (새로 쓰는 파일도 분할 경로로)
+     * - 아직 이동되지 않은 파일이면 평면 경로
+     */
+    public Path resolve(String fileName) {
+        Path sharded = shardedPath(fileName);
+        Path flat = flatPath(fileName);
+        if (sharded.equals(flat) || Files.exists(sharded) || !Files.exists(flat)) {
+            return sharded;
+        }
+        return flat;
+    }
+
+    /**
+     * 분할 배치 경로: 앞 4자리가 hex인 파일명만 분할, 나머지는 평면 경로
+     */
+    public Path shardedPath(String fileName) {
+        Path flat = flatPath(fileName);
+        if (!SHARD_PREFIX.matcher(fileName).matches()) {
+            return flat;
+        }
+        String prefix = fileName.substring(0, 4).toLowerCase(Locale.ROOT);
+        return uploadPath.resolve(prefix.substring(0, 2)).resolve(prefix.substring(2, 4)).resolve(fileName);
+    }
+
+    /**
+     * 분할 이전의 평면 배치 경로
+     */
+    public Path flatPath(String fileName) {
+        // 경로 조작 공격 방지: 디렉토리 구분자, 숨김 파일(임시 디렉토리 포함) 차단
+        if (fileName.isEmpty() || fileName.startsWith(".")
+                || fileName.indexOf('/') >= 0 || fileName.indexOf('\\') >= 0) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다.");
+        }
+        Path filePath = uploadPath.resolve(fileName).normalize();
+        if (!uploadPath.equals(filePath.getParent())) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다.");
+        }
+        return filePath;
+    }
+
+    public Path uploadPath() {
+        return uploadPath;
+    }
+
+    /**
+     * 파일 다운로드를 위한 Resource 반환
+     */
+    public Resource loadFileAsResource(String fileName) {
+        try {
+            Resource resource = new UrlResource(resolve(fileName).toUri());
             if (resource.exists() && resource.isReadable()) {
                 return resource;
             } else {
-                throw new RuntimeException("파일을 찾을 수 없습니다: " + fileName);
+                throw new ResourceNotFoundException("파일을 찾을 수 없습니다: " + fileName);
             }
         } catch (MalformedURLException ex) {
-            throw new RuntimeException("파일을 찾을 수 없습니다: " + fileName, ex);
+            throw new ResourceNotFoundException("파일을 찾을 수 없습니다: " + fileName);
+        }
+    }
+
+    /**
+     * 내용 주소 기반 파일명(해시.ext) 또는 그 이미지 변형(해시_suffix.ext)이면 해시(hex), 아니면 null
+     */
+    public static String contentHashOf(String fileName) {
+        int end = 0;
+        while (end < fileName.length() && fileName.charAt(end) != '.' && fileName.charAt(end) != '_') {
+            end++;
+        }
+        String name = fileName.substring(0, end);
+        return name.length() == StoredFile.HASH_LENGTH && HEX.matcher(name).matches() ? name : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static String extensionOf(String fileName) {
+        int i = fileName.lastIndexOf('.');
+        if (i <= 0) {
+            return "";
+        }
+        String extension = fileName.substring(i + 1).toLowerCase(Locale.ROOT);
+        return EXTENSION.matcher(extension).matches() ? "." + extension : "";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
         }
     }
-}
\ No newline at end of file
+}
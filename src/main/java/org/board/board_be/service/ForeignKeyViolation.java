@@ -0,0 +1,56 @@
+package org.board.board_be.service;
+
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * 참조 무결성(FK) 위반에서 위반된 제약 이름을 찾음
+ * - 제약 이름은 db/migration(V11)에서 고정 (fk_posts_author, fk_comments_post 등)
+ * - 서버 오류 응답의 필드(SQLState, constraint_name)로 판단
+ *   Hibernate의 getConstraintName()은 영어 메시지 문구에서 이름을 잘라내므로
+ *   lc_messages가 영어가 아니면 null → 드라이버(PSQLException)의 필드를 직접 읽음
+ */
+final class ForeignKeyViolation {
+
+    static final String POST_AUTHOR = "fk_posts_author";
+    static final String COMMENT_POST = "fk_comments_post";
+    static final String COMMENT_AUTHOR = "fk_comments_author";
+    static final String COMMENT_PARENT = "fk_comments_parent";
+
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+
+    private ForeignKeyViolation() {
+    }
+
+    /**
+     * @return FK 위반이면 제약 이름(소문자), 다른 무결성 위반이면 empty
+     */
+    static Optional<String> constraintOf(DataIntegrityViolationException ex) {
+        ServerErrorMessage error = serverErrorOf(ex);
+        if (error == null || !FOREIGN_KEY_VIOLATION.equals(error.getSQLState())) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(error.getConstraint()).map(String::toLowerCase);
+    }
+
+    /**
+     * 원인 체인에서 PSQLException을 찾음
+     * - 배치 INSERT는 BatchUpdateException의 getNextException()에 실제 오류가 있음
+     */
+    private static ServerErrorMessage serverErrorOf(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql) {
+                for (SQLException next = sql; next != null; next = next.getNextException()) {
+                    if (next instanceof PSQLException psql && psql.getServerErrorMessage() != null) {
+                        return psql.getServerErrorMessage();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+}
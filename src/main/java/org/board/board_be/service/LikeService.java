@@ -0,0 +1,108 @@
+package org.board.board_be.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.board.board_be.domain.post.PostLikeRepository;
+import org.board.board_be.domain.post.PostRepository;
+import org.board.board_be.domain.user.UserRepository;
+import org.board.board_be.service.counter.BufferedPostCounter;
+import org.board.board_be.service.counter.PostCounter;
+import org.board.board_be.web.exception.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 좋아요
+ * - post_likes 등록/삭제로 사용자당 1회 보장 (멱등)
+ * - posts.like_count는 요청마다 갱신하지 않고 메모리에서 모아 배치 반영
+ *   → 동시에 좋아요를 누르는 사용자들이 posts 행 락에서 줄 서지 않음
+ */
+@Service
+@Transactional
+public class LikeService {
+
+    private final PostLikeRepository postLikeRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final BufferedPostCounter likes;
+
+    public LikeService(PostLikeRepository postLikeRepository,
+                       PostRepository postRepository,
+                       UserRepository userRepository,
+                       JdbcTemplate jdbcTemplate,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${board.like-count.stripes:16}") int stripes) {
+        this.postLikeRepository = postLikeRepository;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.likes = new BufferedPostCounter(PostCounter.LIKE, stripes, jdbcTemplate, transactionTemplate, meterRegistry);
+    }
+
+    /**
+     * 좋아요 (이미 누른 경우 변화 없음)
+     * @return 항상 true (좋아요 상태)
+     */
+    public boolean like(Long postId, Long userId) {
+        validate(postId, userId);
+        if (postLikeRepository.insertIfAbsent(postId, userId) == 1) {
+            addAfterCommit(postId, 1);
+        }
+        return true;
+    }
+
+    /**
+     * 좋아요 취소 (누르지 않은 경우 변화 없음)
+     * @return 항상 false (좋아요 해제 상태)
+     */
+    public boolean unlike(Long postId, Long userId) {
+        validate(postId, userId);
+        if (postLikeRepository.deleteByPostIdAndUserId(postId, userId) == 1) {
+            addAfterCommit(postId, -1);
+        }
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${board.like-count.flush-interval-ms:2000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void flush() {
+        likes.flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        likes.flush();
+    }
+
+    private void validate(Long postId, Long userId) {
+        if (!postRepository.existsByIdAndIsDeletedFalse(postId)) {
+            throw new ResourceNotFoundException("게시글", postId);
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("사용자", userId);
+        }
+    }
+
+    /**
+     * 커밋된 등록/취소만 카운터에 반영 (롤백 시 카운터 오차 방지)
+     */
+    private void addAfterCommit(Long postId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            likes.add(postId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                likes.add(postId, delta);
+            }
+        });
+    }
+}
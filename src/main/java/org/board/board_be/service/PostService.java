@@ -1,22 +1,39 @@
 package org.board.board_be.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.board.board_be.domain.post.Post;
 import org.board.board_be.domain.post.PostFile;
 import org.board.board_be.domain.post.PostRepository;
-import org.board.board_be.domain.user.User;
 import org.board.board_be.domain.user.UserRepository;
+import org.board.board_be.service.cache.PostDetailCache;
+import org.board.board_be.service.cache.PostListCache;
+import org.board.board_be.service.counter.ViewCountService;
+import org.board.board_be.service.event.PostChangedEvent;
+import org.board.board_be.service.image.ImageVariantService;
+import org.board.board_be.service.search.PostSearchService;
 import org.board.board_be.web.dto.CommentResponse;
+import org.board.board_be.web.dto.CursorPageResponse;
+import org.board.board_be.web.dto.KeysetCursor;
+import org.board.board_be.web.dto.PageResponse;
 import org.board.board_be.web.dto.PostListResponse;
 import org.board.board_be.web.dto.PostRequest;
 import org.board.board_be.web.dto.PostResponse;
 import org.board.board_be.web.exception.ResourceNotFoundException;
-import org.springframework.data.domain.Page;
+import org.board.board_be.web.json.SerializedJson;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 @Service
 @Transactional
@@ -26,39 +43,140 @@ public class PostService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final CommentService commentService;
+    private final PostSearchService postSearchService;
+    private final ViewCountService viewCountService;
+    private final FileStorageService fileStorageService;
+    private final ImageVariantService imageVariantService;
+    private final PostListCache postListCache;
+    private final PostDetailCache postDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     /**
      * 메인페이지용 게시글 목록 조회 (경량화, 쿼리 최적화)
+     * - 직렬화된 응답 본문을 반환, 캐시 대상 페이지는 캐시된 바이트를 그대로 사용
+     * - 캐시에 넣을 페이지는 프라이머리에서, 나머지는 조회별 읽기 전용 트랜잭션(레플리카)에서 읽음
      */
-    @Transactional(readOnly = true)
-    public Page<PostListResponse> list(String keyword, Pageable pageable) {
-        // keyword가 null이면 빈 문자열로 변환
-        String searchKeyword = (keyword == null || keyword.isBlank()) ? "" : keyword.trim();
-        return postRepository.searchList(searchKeyword, pageable);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SerializedJson list(String keyword, Pageable pageable) {
+        // 키워드가 있으면 전문 검색(랭킹순), 없으면 최신순 목록
+        if (keyword != null && !keyword.isBlank()) {
+            return SerializedJson.success(objectMapper,
+                    PageResponse.from(postSearchService.search(keyword.trim(), pageable)));
+        }
+        if (postListCache.isCacheable(pageable)) {
+            return postListCache.get(pageable,
+                    () -> fromPrimary(() -> PageResponse.from(postRepository.searchList(pageable))));
+        }
+        return SerializedJson.success(objectMapper, PageResponse.from(postRepository.searchList(pageable)));
     }
 
     /**
-     * 게시글 상세 조회 (전체 정보 + 댓글)
+     * 메인페이지용 게시글 목록 조회 (커서 기반)
+     * - (createdAt, id) 키셋으로 seek → 깊은 페이지도 첫 페이지와 같은 비용
+     * - 전체 건수 COUNT 쿼리 생략
      */
     @Transactional(readOnly = true)
+    public CursorPageResponse<PostListResponse> listByCursor(String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_CURSOR_PAGE_SIZE + " 사이여야 합니다");
+        }
+
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+
+        // 이전 페이지: 오름차순으로 size + 1건 조회 후 뒤집기
+        if (keyset != null && keyset.isPrev()) {
+            List<PostListResponse> rows = new ArrayList<>(
+                    postRepository.findListAfter(keyset.createdAt(), keyset.id(), limit));
+            boolean hasPrev = rows.size() > size;
+            if (hasPrev) {
+                rows.remove(rows.size() - 1);
+            }
+            Collections.reverse(rows);
+            return toCursorPage(rows, size, true, hasPrev);
+        }
+
+        List<PostListResponse> rows = new ArrayList<>(keyset == null
+                ? postRepository.findListFirst(limit)
+                : postRepository.findListBefore(keyset.createdAt(), keyset.id(), limit));
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows.remove(rows.size() - 1);
+        }
+        return toCursorPage(rows, size, hasNext, keyset != null);
+    }
+
+    private CursorPageResponse<PostListResponse> toCursorPage(List<PostListResponse> rows, int size,
+                                                              boolean hasNext, boolean hasPrev) {
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!rows.isEmpty()) {
+            PostListResponse first = rows.get(0);
+            PostListResponse last = rows.get(rows.size() - 1);
+            nextCursor = hasNext ? KeysetCursor.next(last.getCreatedAt(), last.getId()).encode() : null;
+            prevCursor = hasPrev ? KeysetCursor.prev(first.getCreatedAt(), first.getId()).encode() : null;
+        }
+
+        return CursorPageResponse.<PostListResponse>builder()
+                .content(rows)
+                .size(size)
+                .hasNext(hasNext)
+                .hasPrev(hasPrev)
+                .nextCursor(nextCursor)
+                .prevCursor(prevCursor)
+                .build();
+    }
+
+    /**
+     * 게시글 상세 조회 (전체 정보 + 댓글 첫 페이지)
+     * - 댓글은 최상위 댓글 첫 페이지와 대댓글 미리보기만 포함, 이후는 commentNextCursor로 조회
+     * - 요청자와 무관한 응답을 캐시하고 isAuthor만 요청마다 계산
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostResponse get(Long id, Long currentUserId) {
-        Post post = postRepository.findByIdWithDetails(id);
-        if (post == null) {
-            throw new ResourceNotFoundException("게시글", id);
+        long version = postDetailCache.currentVersion(id);
+        PostResponse detail = postDetailCache.get(id, version);
+
+        if (detail == null) {
+            detail = fromPrimary(() -> {
+                Post post = postRepository.findByIdWithDetails(id);
+                if (post == null) {
+                    throw new ResourceNotFoundException("게시글", id);
+                }
+
+                CursorPageResponse<CommentResponse> comments =
+                        commentService.listByCursor(id, null, CommentService.DEFAULT_PAGE_SIZE, null);
+                return PostResponse.from(post, comments, null);
+            });
+            postDetailCache.put(id, version, detail);
         }
 
-        // 댓글 목록 조회 (currentUserId 전달)
-        List<CommentResponse> comments = commentService.list(id, currentUserId);
+        // 조회수는 메모리에만 기록 (주기적으로 배치 반영)
+        viewCountService.recordView(id);
 
-        return PostResponse.from(post, comments, currentUserId);
+        return detail.forViewer(currentUserId);
     }
 
-    public Long create(Long userId, PostRequest request, List<PostFile> files) {
-        User author = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
+    /**
+     * 캐시를 채울 조회는 읽기/쓰기 트랜잭션(프라이머리)에서 실행
+     * - 쓰기 커밋 후 무효화로 캐시 버전이 올라간 뒤, 복제 지연된 레플리카의 이전 내용을 읽어
+     *   새 버전으로 TTL 동안 캐시하는 것을 막음
+     */
+    private <T> T fromPrimary(Supplier<T> loader) {
+        return transactionTemplate.execute(status -> loader.get());
+    }
 
+    /**
+     * 게시글 작성
+     * - 작성자는 SELECT 없이 프록시로 연결, 없는 사용자는 INSERT 시 FK 위반으로 확인
+     */
+    public Long create(Long userId, PostRequest request, List<PostFile> files) {
         Post post = Post.builder()
-                .author(author)
+                .author(userRepository.getReferenceById(userId))
                 .title(request.getTitle())
                 .content(request.getContent())
                 .build();
@@ -69,7 +187,22 @@ public class PostService {
             }
         }
 
-        Post saved = postRepository.save(post);
+        Post saved;
+        try {
+            saved = postRepository.saveAndFlush(post);
+        } catch (DataIntegrityViolationException ex) {
+            if (ForeignKeyViolation.constraintOf(ex).filter(ForeignKeyViolation.POST_AUTHOR::equals).isPresent()) {
+                throw new ResourceNotFoundException("사용자", userId);
+            }
+            throw ex;
+        }
+        if (files != null && !files.isEmpty()) {
+            fileStorageService.acquire(files);
+            // 썸네일 등은 커밋 후 백그라운드에서 생성
+            imageVariantService.generateAfterCommit(files);
+        }
+        postSearchService.index(saved);
+        eventPublisher.publishEvent(new PostChangedEvent(saved.getId(), saved.getCreatedAt(), PostChangedEvent.Type.CREATED));
         return saved.getId();
     }
 
@@ -84,6 +217,8 @@ public class PostService {
 
         post.setTitle(request.getTitle());
         post.setContent(request.getContent());
+        postSearchService.index(post);
+        eventPublisher.publishEvent(new PostChangedEvent(postId, post.getCreatedAt(), PostChangedEvent.Type.UPDATED));
     }
 
     public void delete(Long postId, Long userId) {
@@ -96,5 +231,8 @@ public class PostService {
         }
 
         post.setDeleted(true);
+        fileStorageService.release(postId);
+        postSearchService.remove(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId, post.getCreatedAt(), PostChangedEvent.Type.DELETED));
     }
 }
@@ -0,0 +1,357 @@
+package org.board.board_be.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.board.board_be.domain.file.StoredFile;
+import org.board.board_be.service.cache.FileMetadataCache;
+import org.board.board_be.service.image.ImageVariant;
+import org.board.board_be.service.image.ImageVariantService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 업로드 파일 정리 작업
+ * 1) 참조가 0이 된 지 retention이 지난 stored_files 행과 파일(+이미지 변형) 삭제
+ *    - 게시글 삭제 시 참조가 해제되므로 삭제된 게시글의 파일은 retention 후 회수
+ * 2) 업로드 디렉토리를 DB와 대조해 참조 없는 파일 삭제
+ *    - 내용 주소 기반: stored_files 행이 없는 파일 (게시글 저장 실패로 남은 파일)
+ *    - 이전 업로드(UUID): 살아 있는 게시글(또는 삭제 후 retention 이내)의 post_files가 없는 파일
+ *    - 수정 시각이 orphan-grace 이내인 파일은 업로드 진행 중일 수 있으므로 제외
+ * - batch-size 개씩 처리하고 pause 만큼 쉬어 I/O 급증 방지, 한 번에 최대 max-deletes 개까지 삭제
+ * - dry-run이면 삭제 대상 집계(메트릭/로그)만 하고 지우지 않음
+ */
+@Slf4j
+@Component
+public class UploadGarbageCollector {
+
+    private static final String URL_PREFIX = "/uploads/";
+
+    private final FileStorageService fileStorageService;
+    private final FileMetadataCache fileMetadataCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Timer sweepTimer;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${board.upload.gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${board.upload.gc.dry-run:false}")
+    private boolean dryRun;
+
+    @Value("${board.upload.gc.retention:7d}")
+    private Duration retention;
+
+    @Value("${board.upload.gc.orphan-grace:1h}")
+    private Duration orphanGrace;
+
+    @Value("${board.upload.gc.batch-size:500}")
+    private int batchSize;
+
+    @Value("${board.upload.gc.pause:200ms}")
+    private Duration pause;
+
+    @Value("${board.upload.gc.max-deletes:10000}")
+    private int maxDeletes;
+
+    public UploadGarbageCollector(FileStorageService fileStorageService,
+                                  FileMetadataCache fileMetadataCache,
+                                  JdbcTemplate jdbcTemplate,
+                                  NamedParameterJdbcTemplate namedJdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry) {
+        this.fileStorageService = fileStorageService;
+        this.fileMetadataCache = fileMetadataCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.sweepTimer = Timer.builder("board.upload.gc.sweep").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${board.upload.gc.interval-ms:3600000}",
+            initialDelayString = "${board.upload.gc.initial-delay-ms:600000}")
+    public void scheduledSweep() {
+        if (enabled) {
+            sweep();
+        }
+    }
+
+    /**
+     * @return 삭제한(dry-run이면 삭제 대상) 파일 수
+     */
+    public int sweep() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            return sweepTimer.recordCallable(() -> {
+                Sweep sweep = new Sweep(Instant.now());
+                sweepUnreferenced(sweep);
+                reconcileDirectory(sweep);
+                if (sweep.deleted > 0) {
+                    log.info("Upload GC {} {} files ({} bytes)",
+                            dryRun ? "would delete" : "deleted", sweep.deleted, sweep.bytes);
+                }
+                return sweep.deleted;
+            });
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } catch (Exception ex) {
+            log.warn("Upload GC failed", ex);
+            return 0;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 1) 참조 수 0 + retention 경과
+     * - 키 잠금(FileStorageService.place와 공유) 안에서 행을 조건부로 지우고 파일까지 삭제
+     *   → 같은 내용이 다시 업로드되면 updated_at이 갱신되어 조건에서 빠지거나, 삭제가 끝난 뒤 새로 쓰임
+     */
+    private void sweepUnreferenced(Sweep sweep) throws InterruptedException {
+        Timestamp cutoff = Timestamp.from(sweep.startedAt.minus(retention));
+        String lastKey = "";
+        while (sweep.hasBudget()) {
+            List<String> keys = jdbcTemplate.queryForList("""
+                    SELECT storage_key FROM stored_files
+                    WHERE ref_count = 0 AND updated_at < ? AND storage_key > ?
+                    ORDER BY storage_key
+                    LIMIT ?
+                    """, String.class, cutoff, lastKey, batchSize);
+            if (keys.isEmpty()) {
+                return;
+            }
+            for (String key : keys) {
+                if (!sweep.hasBudget()) {
+                    return;
+                }
+                if (dryRun) {
+                    deleteWithVariants(key, sweep, "unreferenced");
+                    continue;
+                }
+                transactionTemplate.executeWithoutResult(status -> {
+                    lock(key);
+                    if (jdbcTemplate.update(
+                            "DELETE FROM stored_files WHERE storage_key = ? AND ref_count = 0 AND updated_at < ?",
+                            key, cutoff) > 0) {
+                        deleteWithVariants(key, sweep, "unreferenced");
+                    }
+                });
+            }
+            lastKey = keys.get(keys.size() - 1);
+            Thread.sleep(pause.toMillis());
+        }
+    }
+
+    /**
+     * 2) 디렉토리 ↔ DB 대조
+     */
+    private void reconcileDirectory(Sweep sweep) throws IOException, InterruptedException {
+        Path root = fileStorageService.uploadPath();
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        Instant graceCutoff = sweep.startedAt.minus(orphanGrace);
+        List<Candidate> batch = new ArrayList<>(batchSize);
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                if (!sweep.hasBudget()) {
+                    return;
+                }
+                BasicFileAttributes attributes = readAttributes(path);
+                if (attributes == null || !attributes.isRegularFile()
+                        || attributes.lastModifiedTime().toInstant().isAfter(graceCutoff)) {
+                    continue;
+                }
+                String name = path.getFileName().toString();
+                if (path.getParent().getFileName().toString().equals(".tmp")) {
+                    // 중단된 업로드/변형 생성의 임시 파일
+                    delete(path, attributes.size(), sweep, "temp");
+                    continue;
+                }
+                batch.add(new Candidate(path, name, attributes.size()));
+                if (batch.size() == batchSize) {
+                    reconcileBatch(batch, sweep);
+                    batch.clear();
+                    Thread.sleep(pause.toMillis());
+                }
+            }
+        } catch (UncheckedIOException ex) {
+            // 순회 중 다른 인스턴스가 디렉토리를 바꾼 경우, 다음 실행에서 이어서 처리
+            log.debug("Upload GC directory walk interrupted", ex);
+        }
+        if (!batch.isEmpty() && sweep.hasBudget()) {
+            reconcileBatch(batch, sweep);
+        }
+    }
+
+    private void reconcileBatch(List<Candidate> batch, Sweep sweep) {
+        Set<String> hashes = new HashSet<>();
+        Set<String> legacyUrls = new HashSet<>();
+        for (Candidate candidate : batch) {
+            String hash = FileStorageService.contentHashOf(candidate.name());
+            if (hash != null) {
+                hashes.add(hash);
+            } else {
+                legacyUrls.add(URL_PREFIX + candidate.name());
+            }
+        }
+
+        Set<String> storedKeys = new HashSet<>();
+        Set<String> storedHashes = new HashSet<>();
+        if (!hashes.isEmpty()) {
+            namedJdbcTemplate.queryForList(
+                            "SELECT storage_key FROM stored_files WHERE left(storage_key, 64) IN (:hashes)",
+                            Map.of("hashes", hashes), String.class)
+                    .forEach(key -> {
+                        storedKeys.add(key);
+                        storedHashes.add(key.substring(0, StoredFile.HASH_LENGTH));
+                    });
+        }
+        Set<String> referencedUrls = new HashSet<>();
+        if (!legacyUrls.isEmpty()) {
+            referencedUrls.addAll(namedJdbcTemplate.queryForList("""
+                    SELECT pf.file_url FROM post_files pf
+                    JOIN posts p ON p.id = pf.post_id
+                    WHERE pf.storage_key IS NULL AND pf.file_url IN (:urls)
+                      AND (p.is_deleted = false OR p.updated_at >= :cutoff)
+                    """, new MapSqlParameterSource()
+                            .addValue("urls", legacyUrls)
+                            .addValue("cutoff", Timestamp.from(sweep.startedAt.minus(retention))),
+                    String.class));
+        }
+
+        Instant graceCutoff = sweep.startedAt.minus(orphanGrace);
+        for (Candidate candidate : batch) {
+            if (!sweep.hasBudget()) {
+                return;
+            }
+            String hash = FileStorageService.contentHashOf(candidate.name());
+            if (hash == null) {
+                if (!referencedUrls.contains(URL_PREFIX + candidate.name())) {
+                    delete(candidate.path(), candidate.size(), sweep, "legacy");
+                }
+            } else if (candidate.name().startsWith(hash + "_")) {
+                // 이미지 변형: 원본 행이 있으면 유지
+                if (!storedHashes.contains(hash)) {
+                    delete(candidate.path(), candidate.size(), sweep, "orphan");
+                }
+            } else if (!storedKeys.contains(candidate.name())) {
+                if (dryRun) {
+                    delete(candidate.path(), candidate.size(), sweep, "orphan");
+                    continue;
+                }
+                // 행 없는 원본: 잠금 안에서 수정 시각을 다시 확인 (그 사이 같은 내용이 재사용되었을 수 있음)
+                transactionTemplate.executeWithoutResult(status -> {
+                    lock(candidate.name());
+                    BasicFileAttributes attributes = readAttributes(candidate.path());
+                    if (attributes != null && !attributes.lastModifiedTime().toInstant().isAfter(graceCutoff)) {
+                        delete(candidate.path(), attributes.size(), sweep, "orphan");
+                    }
+                });
+            }
+        }
+    }
+
+    // StoredFileRepository.lock과 같은 잠금
+    private void lock(String storageKey) {
+        jdbcTemplate.queryForObject("SELECT 1 FROM pg_advisory_xact_lock(hashtext(?))", Integer.class, storageKey);
+    }
+
+    private void deleteWithVariants(String storageKey, Sweep sweep, String reason) {
+        List<String> names = new ArrayList<>();
+        names.add(storageKey);
+        for (ImageVariant variant : ImageVariant.values()) {
+            String variantFileName = ImageVariantService.variantFileName(storageKey, variant);
+            if (variantFileName != null) {
+                names.add(variantFileName);
+            }
+        }
+        for (String name : names) {
+            Path path = fileStorageService.resolve(name);
+            BasicFileAttributes attributes = readAttributes(path);
+            if (attributes != null) {
+                delete(path, attributes.size(), sweep, reason);
+            }
+        }
+    }
+
+    private void delete(Path path, long size, Sweep sweep, String reason) {
+        if (!dryRun) {
+            try {
+                if (!Files.deleteIfExists(path)) {
+                    return;
+                }
+            } catch (IOException ex) {
+                log.warn("Upload GC could not delete {}", path, ex);
+                return;
+            }
+            fileMetadataCache.invalidate(path.getFileName().toString());
+        }
+        sweep.deleted++;
+        sweep.bytes += size;
+        Counter.builder("board.upload.gc.files")
+                .tag("reason", reason)
+                .tag("dry_run", String.valueOf(dryRun))
+                .register(meterRegistry)
+                .increment();
+        Counter.builder("board.upload.gc.bytes")
+                .tag("dry_run", String.valueOf(dryRun))
+                .register(meterRegistry)
+                .increment(size);
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private record Candidate(Path path, String name, long size) {
+    }
+
+    private final class Sweep {
+        private final Instant startedAt;
+        private int deleted;
+        private long bytes;
+
+        private Sweep(Instant startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        private boolean hasBudget() {
+            return deleted < maxDeletes;
+        }
+    }
+}
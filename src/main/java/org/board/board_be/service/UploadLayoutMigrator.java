@@ -0,0 +1,158 @@
+package org.board.board_be.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.board.board_be.service.cache.FileMetadataCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 업로드 디렉토리 평면 배치 → 분할 배치 온라인 이동
+ * - 기동 후 백그라운드 스레드에서 batch-size 개씩 옮기고 pause 만큼 쉼 (I/O 급증 방지)
+ * - 이동은 같은 파일시스템 안의 rename이라 원자적, 이동 중에도 FileStorageService.resolve가 두 배치를 모두 조회
+ * - 이미 분할 경로에 같은 내용 주소 파일이 있으면 평면 쪽을 삭제, 그 외 충돌은 건너뜀
+ * - 평면 배치에 남은 파일이 없으면 아무 것도 하지 않음
+ */
+@Slf4j
+@Component
+public class UploadLayoutMigrator {
+
+    private final FileStorageService fileStorageService;
+    private final FileMetadataCache fileMetadataCache;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration pause;
+    private final Counter moved;
+    private final Counter skipped;
+
+    private volatile boolean stopped;
+
+    public UploadLayoutMigrator(FileStorageService fileStorageService,
+                                FileMetadataCache fileMetadataCache,
+                                MeterRegistry meterRegistry,
+                                @Value("${board.upload.layout-migration.enabled:true}") boolean enabled,
+                                @Value("${board.upload.layout-migration.batch-size:200}") int batchSize,
+                                @Value("${board.upload.layout-migration.pause:100ms}") Duration pause) {
+        this.fileStorageService = fileStorageService;
+        this.fileMetadataCache = fileMetadataCache;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.moved = Counter.builder("board.upload.layout.moved").register(meterRegistry);
+        this.skipped = Counter.builder("board.upload.layout.skipped").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || !Files.isDirectory(fileStorageService.uploadPath())) {
+            return;
+        }
+        Thread.ofPlatform()
+                .name("upload-layout-migrator")
+                .daemon()
+                .start(this::migrate);
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * 평면 배치에 남은 파일이 없을 때까지 배치 단위로 이동
+     * @return 이동한 파일 수
+     */
+    public int migrate() {
+        int total = 0;
+        try {
+            while (!stopped) {
+                List<Path> batch = nextBatch();
+                int movedInBatch = 0;
+                for (Path flat : batch) {
+                    if (stopped) {
+                        break;
+                    }
+                    if (move(flat)) {
+                        movedInBatch++;
+                    }
+                }
+                total += movedInBatch;
+                // 옮길 수 있는 파일이 더 없으면 종료 (충돌로 건너뛴 파일만 남은 경우 포함)
+                if (batch.size() < batchSize || movedInBatch == 0) {
+                    break;
+                }
+                Thread.sleep(pause.toMillis());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (IOException ex) {
+            log.warn("Upload layout migration stopped after {} files", total, ex);
+            return total;
+        }
+        if (total > 0) {
+            log.info("Upload layout migration moved {} files", total);
+        }
+        return total;
+    }
+
+    private List<Path> nextBatch() throws IOException {
+        Path root = fileStorageService.uploadPath();
+        List<Path> batch = new ArrayList<>(batchSize);
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(root)) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                if (name.startsWith(".") || !Files.isRegularFile(entry)
+                        || fileStorageService.shardedPath(name).equals(entry)) {
+                    continue;
+                }
+                batch.add(entry);
+                if (batch.size() == batchSize) {
+                    break;
+                }
+            }
+        }
+        return batch;
+    }
+
+    private boolean move(Path flat) throws IOException {
+        String name = flat.getFileName().toString();
+        Path sharded = fileStorageService.shardedPath(name);
+        try {
+            Files.createDirectories(sharded.getParent());
+            if (Files.exists(sharded)) {
+                // 내용 주소 기반 파일은 이름이 같으면 내용도 같음
+                if (FileStorageService.contentHashOf(name) != null) {
+                    Files.deleteIfExists(flat);
+                    fileMetadataCache.invalidate(name);
+                    return true;
+                }
+                skipped.increment();
+                log.warn("Upload layout migration skipped {}: target already exists", name);
+                return false;
+            }
+            // rename(2)는 대상이 있으면 덮어쓰므로 위에서 먼저 확인
+            Files.move(flat, sharded, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException | FileAlreadyExistsException ex) {
+            // 다른 인스턴스가 먼저 옮긴 경우
+            return false;
+        }
+        fileMetadataCache.invalidate(name);
+        moved.increment();
+        return true;
+    }
+}
@@ -1,60 +1,102 @@
 package org.board.board_be.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.board.board_be.domain.user.User;
 import org.board.board_be.domain.user.UserRepository;
+import org.board.board_be.service.auth.PasswordHasher;
+import org.board.board_be.service.auth.UsernameFilter;
 import org.board.board_be.web.dto.UserRequest;
 import org.board.board_be.web.dto.UserResponse;
 import org.board.board_be.web.exception.ResourceNotFoundException;
+import org.board.board_be.web.exception.ServiceUnavailableException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
 
 /**
  * 사용자 서비스
+ * - 회원가입/로그인은 트랜잭션 밖에서 비밀번호를 해시(PasswordHasher 전용 풀)하고,
+ *   조회/저장만 각각 짧은 트랜잭션으로 실행 → 해시 계산 동안 DB 커넥션을 잡지 않음
+ * - NOT_SUPPORTED 구간에서 리포지토리를 트랜잭션 없이 부르면 EntityManager(와 커넥션)가
+ *   메서드가 끝날 때까지 묶이므로, 해시 전 조회는 transactionTemplate으로 감싸 바로 반납
  */
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final UsernameFilter usernameFilter;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 회원가입
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long register(UserRequest request) {
-        userRepository.findByUsername(request.getUsername())
-                .ifPresent(u -> {
-                    throw new IllegalArgumentException("이미 존재하는 아이디입니다.");
-                });
+        // 해시 전에 먼저 확인해 중복 아이디로 해시 비용을 쓰지 않음 (필터에 없으면 DB 조회 생략)
+        if (usernameFilter.exists(request.getUsername(), this::existsByUsername)) {
+            throw new IllegalArgumentException("이미 존재하는 아이디입니다.");
+        }
 
         String role = "USER";
 
-        // 비밀번호 평문 저장(임시)
         User user = User.builder()
                 .username(request.getUsername())
-                .password(request.getPassword())
+                .password(passwordHasher.hash(request.getPassword()))
+                .passwordCost(passwordHasher.cost())
                 .nickname(request.getNickname())
                 .role(role)
                 .build();
 
-        User saved = userRepository.save(user);
-        return saved.getId();
+        try {
+            User saved = userRepository.save(user);
+            usernameFilter.add(saved.getUsername());
+            return saved.getId();
+        } catch (DataIntegrityViolationException ex) {
+            // 확인 이후 같은 아이디가 먼저 저장된 경우 (username unique)
+            throw new IllegalArgumentException("이미 존재하는 아이디입니다.");
+        }
+    }
+
+    /**
+     * 아이디 사용 가능 여부 (가입 화면에서 입력할 때마다 호출)
+     * - 필터에 확실히 없는 아이디는 DB를 조회하지 않음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean isUsernameAvailable(String username) {
+        if (username == null || username.isBlank()) {
+            throw new IllegalArgumentException("아이디는 필수입니다");
+        }
+        return !usernameFilter.exists(username, this::existsByUsername);
     }
 
     /**
      * 로그인
+     * - 평문 또는 낮은 cost로 저장된 비밀번호는 검증에 성공하면 현재 cost로 다시 해시
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse login(UserRequest.LoginRequest request) {
-        User user = userRepository.findByUsername(request.getUsername())
+        User user = transactionTemplate.execute(status -> userRepository.findByUsername(request.getUsername()))
                 .orElseThrow(() -> new IllegalArgumentException("아이디 또는 비밀번호가 일치하지 않습니다"));
 
-        // TODO: 비밀번호 암호화 비교 (BCrypt)
-        if (!user.getPassword().equals(request.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword(), user.getPasswordCost())) {
             throw new IllegalArgumentException("아이디 또는 비밀번호가 일치하지 않습니다");
         }
 
+        if (passwordHasher.needsUpgrade(user.getPassword(), user.getPasswordCost())) {
+            upgradePassword(user, request.getPassword());
+        }
         return UserResponse.from(user);
     }
 
@@ -68,6 +110,21 @@ public class UserService {
         return UserResponse.from(user);
     }
 
+    // 짧은 트랜잭션에서 조회하고 커넥션 반납
+    private boolean existsByUsername(String username) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> userRepository.existsByUsername(username)));
+    }
+
+    // 교체 실패는 로그인 결과에 영향 없음 (다음 로그인 때 다시 시도)
+    private void upgradePassword(User user, String rawPassword) {
+        try {
+            userRepository.updatePassword(user.getId(), user.getPassword(),
+                    passwordHasher.hash(rawPassword), passwordHasher.cost(), Instant.now());
+        } catch (ServiceUnavailableException | DataAccessException ex) {
+            log.debug("Password rehash skipped for user {}: {}", user.getId(), ex.getMessage());
+        }
+    }
+
     /**
      * 회원 탈퇴
      */
@@ -75,5 +132,13 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
         userRepository.delete(user);
+
+        String username = user.getUsername();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                usernameFilter.remove(username);
+            }
+        });
     }
 }
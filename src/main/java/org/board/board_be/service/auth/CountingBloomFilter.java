@@ -0,0 +1,148 @@
+package org.board.board_be.service.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 삭제를 지원하는 Bloom filter (4비트 카운터, long 하나에 16개)
+ * - mightContain이 false면 확실히 없음, true면 있을 수도 있음 (false positive)
+ * - 카운터는 long 단위 CAS로만 갱신 → 잠금 없이 동시 추가/삭제 가능
+ * - 15에 도달한 카운터는 더 늘리거나 줄이지 않음 (포화, 줄이면 false negative 가능)
+ */
+public final class CountingBloomFilter {
+
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long COUNTER_MASK = 0xFL;
+    private static final long MAX_COUNT = COUNTER_MASK;
+
+    private final AtomicLongArray words;
+    private final long counters;
+    private final int hashes;
+    private final AtomicLong entries = new AtomicLong();
+
+    /**
+     * @param expectedInsertions 예상 원소 수 (넘으면 false positive 확률이 올라감)
+     * @param falsePositiveRate  예상 원소 수일 때 목표 false positive 확률
+     */
+    public CountingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions >= 1, 0 < falsePositiveRate < 1 이어야 합니다");
+        }
+        // m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = Math.toIntExact((m + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+        this.words = new AtomicLongArray(wordCount);
+        this.counters = (long) wordCount * COUNTERS_PER_WORD;
+        this.hashes = Math.max(1, (int) Math.round((double) counters / expectedInsertions * Math.log(2)));
+    }
+
+    public boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = h2(h1);
+        for (int i = 0; i < hashes; i++) {
+            if (counterAt(index(h1, h2, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void add(String value) {
+        long h1 = hash(value);
+        long h2 = h2(h1);
+        for (int i = 0; i < hashes; i++) {
+            update(index(h1, h2, i), 1);
+        }
+        entries.incrementAndGet();
+    }
+
+    /**
+     * 들어 있을 수도 있는 값만 제거 (없다고 확실한 값은 다른 원소의 카운터를 줄이지 않도록 무시)
+     *
+     * @return 카운터를 줄였으면 true
+     */
+    public boolean remove(String value) {
+        if (!mightContain(value)) {
+            return false;
+        }
+        long h1 = hash(value);
+        long h2 = h2(h1);
+        for (int i = 0; i < hashes; i++) {
+            update(index(h1, h2, i), -1);
+        }
+        entries.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * 추가 - 제거 수 (같은 값을 두 번 넣으면 두 번 셈)
+     */
+    public long entries() {
+        return Math.max(0, entries.get());
+    }
+
+    public int hashes() {
+        return hashes;
+    }
+
+    public long memoryBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    /**
+     * 현재 원소 수 기준 이론상 false positive 확률 (1 - e^(-kn/m))^k
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashes * entries() / counters), hashes);
+    }
+
+    private long index(long h1, long h2, int i) {
+        return Math.floorMod(h1 + i * h2, counters);
+    }
+
+    private int counterAt(long index) {
+        long word = words.get((int) (index / COUNTERS_PER_WORD));
+        return (int) ((word >>> shift(index)) & COUNTER_MASK);
+    }
+
+    private void update(long index, int delta) {
+        int wordIndex = (int) (index / COUNTERS_PER_WORD);
+        int shift = shift(index);
+        while (true) {
+            long word = words.get(wordIndex);
+            long count = (word >>> shift) & COUNTER_MASK;
+            if (count == MAX_COUNT || (delta < 0 && count == 0)) {
+                return;
+            }
+            long updated = (word & ~(COUNTER_MASK << shift)) | ((count + delta) << shift);
+            if (words.compareAndSet(wordIndex, word, updated)) {
+                return;
+            }
+        }
+    }
+
+    private static int shift(long index) {
+        return (int) (index % COUNTERS_PER_WORD) * 4;
+    }
+
+    // FNV-1a 64 + 비트 섞기, 두 번째 해시는 첫 번째에서 파생 (Kirsch-Mitzenmacher: h1 + i*h2)
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long h2(long h1) {
+        return mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
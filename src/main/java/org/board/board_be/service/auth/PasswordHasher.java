@@ -0,0 +1,157 @@
+package org.board.board_be.service.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.board.board_be.web.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 해시/검증 (BCrypt)
+ * - CPU를 오래 쓰는 작업이므로 코어 수에 맞춘 전용 스레드 풀에서만 실행
+ *   → 로그인이 몰려도 Tomcat 워커 전체가 해시 계산에 묶이지 않음
+ * - 대기열이 가득 차거나 timeout 안에 끝나지 않으면 ServiceUnavailableException (503)
+ *   시간 초과된 작업은 대기열에서 바로 빼서 기다리는 사람 없는 작업이 자리를 차지하지 않게 함
+ * - cost 0은 평문으로 저장된 이전 계정, 설정된 cost보다 낮으면 needsUpgrade
+ */
+@Component
+public class PasswordHasher {
+
+    public static final int PLAINTEXT = 0;
+
+    private static final Pattern BCRYPT = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$.{53}$");
+
+    private final ThreadPoolExecutor executor;
+    private final int cost;
+    private final long timeoutMillis;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(MeterRegistry meterRegistry,
+                          @Value("${board.password.bcrypt-cost:10}") int cost,
+                          @Value("${board.password.threads:0}") int threads,
+                          @Value("${board.password.queue-capacity:32}") int queueCapacity,
+                          @Value("${board.password.timeout:2s}") Duration timeout) {
+        this.cost = cost;
+        this.timeoutMillis = timeout.toMillis();
+        // 0이면 코어 수 - 1 (다른 요청 처리를 위해 코어 하나는 남김)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("board.password.queue", executor, e -> e.getQueue().size())
+                .description("대기 중인 해시/검증 작업 수")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("board.password.duration").tag("operation", "hash").register(meterRegistry);
+        this.verifyTimer = Timer.builder("board.password.duration").tag("operation", "verify").register(meterRegistry);
+        this.rejected = Counter.builder("board.password.rejected")
+                .description("대기열이 가득 차거나 시간 초과로 거절된 작업 수")
+                .register(meterRegistry);
+    }
+
+    public int cost() {
+        return cost;
+    }
+
+    public String hash(String rawPassword) {
+        String salt = BCrypt.gensalt(cost);
+        return run(timed(hashTimer, () -> BCrypt.hashpw(rawPassword, salt)));
+    }
+
+    /**
+     * @param storedCost 저장된 cost (0이어도 값이 BCrypt 형식이면 BCrypt로 검증)
+     */
+    public boolean matches(String rawPassword, String stored, int storedCost) {
+        if (costOf(stored, storedCost) == PLAINTEXT) {
+            // 평문 비교는 가벼우므로 요청 스레드에서 (길이 외 타이밍 차이 없이)
+            return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8),
+                    stored.getBytes(StandardCharsets.UTF_8));
+        }
+        return run(timed(verifyTimer, () -> BCrypt.checkpw(rawPassword, stored)));
+    }
+
+    public boolean needsUpgrade(String stored, int storedCost) {
+        return costOf(stored, storedCost) < cost;
+    }
+
+    /**
+     * 저장된 cost, 기록이 없으면 해시 문자열에서 읽음 (BCrypt 형식이 아니면 평문)
+     */
+    public static int costOf(String stored, int storedCost) {
+        if (storedCost > PLAINTEXT) {
+            return storedCost;
+        }
+        Matcher matcher = BCRYPT.matcher(stored);
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : PLAINTEXT;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static <T> Callable<T> timed(Timer timer, Supplier<T> work) {
+        return () -> timer.record(work);
+    }
+
+    private <T> T run(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new ServiceUnavailableException("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            abandon(future);
+            rejected.increment();
+            throw new ServiceUnavailableException("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            abandon(future);
+            throw new ServiceUnavailableException("요청이 중단되었습니다. 다시 시도해주세요");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    // 취소만 하면 대기열에 남아 자리를 차지함 → 뒤 요청이 모두 거절되는 상태가 이어짐
+    // (이미 실행 중인 BCrypt는 인터럽트에 반응하지 않으므로 끝까지 실행됨)
+    private void abandon(FutureTask<?> future) {
+        future.cancel(true);
+        executor.remove(future);
+    }
+}
@@ -0,0 +1,174 @@
+package org.board.board_be.service.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 가입된 아이디의 메모리 Bloom filter (아이디 중복 확인 / 회원가입)
+ * - 필터에 없으면 DB를 조회하지 않고 "사용 가능", 있을 수도 있으면 DB로 확인
+ * - 기동 시 users 전체를 id 순 배치로 읽어 만들고, 가입/탈퇴 시 갱신
+ * - 다른 인스턴스의 가입/탈퇴는 반영되지 않으므로 rebuild-interval 마다 다시 만듦
+ *   (그 사이 "사용 가능"이 틀려도 가입은 username unique 제약이 막음)
+ * - 지표: board.username_filter.checks{result}, false_positive_rate (관측/이론), memory, entries
+ */
+@Slf4j
+@Component
+public class UsernameFilter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final int batchSize;
+    private final Counter negatives;
+    private final Counter positives;
+    private final Counter falsePositives;
+
+    // 만들기 전에는 null → 모든 확인을 DB로
+    private volatile CountingBloomFilter filter;
+    // 다시 만드는 동안 들어온 가입/탈퇴도 새 필터에 반영
+    private volatile CountingBloomFilter building;
+
+    public UsernameFilter(JdbcTemplate jdbcTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${board.username-filter.enabled:true}") boolean enabled,
+                          @Value("${board.username-filter.expected-insertions:100000}") long expectedInsertions,
+                          @Value("${board.username-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                          @Value("${board.username-filter.batch-size:5000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.batchSize = batchSize;
+
+        this.negatives = checks(meterRegistry, "negative");
+        this.positives = checks(meterRegistry, "positive");
+        this.falsePositives = checks(meterRegistry, "false_positive");
+        // 없는 아이디 중 필터가 "있을 수도"라고 답한 비율
+        Gauge.builder("board.username_filter.false_positive_rate", this, f -> f.observedFalsePositiveRate())
+                .description("관측된 false positive 비율 (DB에 없던 아이디 기준)")
+                .register(meterRegistry);
+        Gauge.builder("board.username_filter.expected_false_positive_rate", this,
+                        f -> f.filter == null ? Double.NaN : f.filter.expectedFalsePositiveRate())
+                .description("현재 원소 수 기준 이론상 false positive 확률")
+                .register(meterRegistry);
+        Gauge.builder("board.username_filter.memory", this, f -> f.filter == null ? 0 : f.filter.memoryBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("board.username_filter.entries", this, f -> f.filter == null ? 0 : f.filter.entries())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 아이디가 이미 있는지 확인
+     * - 필터에 확실히 없으면 lookup(DB)을 부르지 않고 false
+     */
+    public boolean exists(String username, Predicate<String> lookup) {
+        CountingBloomFilter current = filter;
+        if (current != null && !current.mightContain(username)) {
+            negatives.increment();
+            return false;
+        }
+        boolean exists = lookup.test(username);
+        if (current != null) {
+            (exists ? positives : falsePositives).increment();
+        }
+        return exists;
+    }
+
+    /**
+     * 가입 커밋 후 호출
+     * - building을 먼저 읽어야 재구성 중 교체되는 순간에도 빠지지 않음
+     */
+    public void add(String username) {
+        CountingBloomFilter next = building;
+        CountingBloomFilter current = filter;
+        if (current != null) {
+            current.add(username);
+        }
+        if (next != null && next != current) {
+            next.add(username);
+        }
+    }
+
+    /**
+     * 탈퇴 커밋 후 호출
+     */
+    public void remove(String username) {
+        CountingBloomFilter next = building;
+        CountingBloomFilter current = filter;
+        if (current != null) {
+            current.remove(username);
+        }
+        if (next != null && next != current) {
+            next.remove(username);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    /**
+     * 전체 다시 만들기 - 탈퇴로 남은 흔적/다른 인스턴스 변경 정리, 사용자 수 증가에 맞춘 크기 조정
+     */
+    @Scheduled(fixedDelayString = "${board.username-filter.rebuild-interval-ms:3600000}",
+            initialDelayString = "${board.username-filter.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        Long users = jdbcTemplate.queryForObject("SELECT count(*) FROM users", Long.class);
+        // 여유를 두어 다음 재구성 전까지 가입이 늘어도 목표 확률 유지
+        long capacity = Math.max(expectedInsertions, (users == null ? 0 : users) * 2);
+        CountingBloomFilter next = new CountingBloomFilter(capacity, falsePositiveRate);
+        building = next;
+        try {
+            long lastId = 0;
+            while (true) {
+                List<Object[]> batch = jdbcTemplate.query(
+                        "SELECT id, username FROM users WHERE id > ? ORDER BY id LIMIT ?",
+                        (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getString("username")},
+                        lastId, batchSize);
+                for (Object[] row : batch) {
+                    next.add((String) row[1]);
+                }
+                if (batch.size() < batchSize) {
+                    break;
+                }
+                lastId = (Long) batch.get(batch.size() - 1)[0];
+            }
+            filter = next;
+        } finally {
+            building = null;
+        }
+        log.info("Username filter built: {} entries, {} KB, {} hashes, {} ms", next.entries(),
+                next.memoryBytes() / 1024, next.hashes(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    double observedFalsePositiveRate() {
+        double fp = falsePositives.count();
+        double total = fp + negatives.count();
+        return total == 0 ? 0 : fp / total;
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("board.username_filter.checks")
+                .description("아이디 확인 결과 (negative: DB 조회 생략, false_positive: 조회했지만 없음)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
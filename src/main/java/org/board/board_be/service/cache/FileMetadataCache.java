@@ -0,0 +1,87 @@
+package org.board.board_be.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.board.board_be.service.FileStorageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+
+/**
+ * 첨부 파일 메타데이터 캐시 (저장 파일명 → 경로/크기/Content-Type/ETag)
+ * - 저장된 파일은 내용이 바뀌지 않으므로 한 번 stat 한 결과를 재사용
+ * - ETag: 내용 주소 기반 파일은 SHA-256, 이전 업로드는 크기 + 수정 시각
+ * - Content-Type은 확장자 매핑(MediaTypeFactory)으로 결정, 파일시스템 MIME 조회 없음
+ * - 없는 파일은 캐시하지 않음
+ * - 저장 후 ttl이 지나면 만료 (접속 기준이 아님): 자주 받는 파일도 이동/삭제된 경로가 ttl 넘게 남지 않음
+ */
+@Component
+public class FileMetadataCache {
+
+    private final FileStorageService fileStorageService;
+    private final Cache<String, FileMetadata> cache;
+
+    public FileMetadataCache(FileStorageService fileStorageService,
+                             MeterRegistry meterRegistry,
+                             @Value("${board.file-metadata-cache.maximum-size:10000}") long maximumSize,
+                             @Value("${board.file-metadata-cache.ttl:1h}") Duration ttl) {
+        this.fileStorageService = fileStorageService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "fileMetadata");
+    }
+
+    /**
+     * @return 메타데이터, 파일이 없으면 null
+     */
+    public FileMetadata get(String fileName) {
+        return cache.get(fileName, this::load);
+    }
+
+    public void invalidate(String fileName) {
+        cache.invalidate(fileName);
+    }
+
+    private FileMetadata load(String fileName) {
+        Path path = fileStorageService.resolve(fileName);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException ex) {
+            return null;
+        }
+        if (!attributes.isRegularFile()) {
+            return null;
+        }
+
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        // 내용 주소 기반이면 확장자를 뺀 이름 (원본: 해시, 변형: 해시_suffix)
+        String etag = FileStorageService.contentHashOf(fileName) != null
+                ? "\"" + stemOf(fileName) + "\""
+                : "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+        MediaType contentType = MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        return new FileMetadata(path, size, lastModified, contentType, etag);
+    }
+
+    private static String stemOf(String fileName) {
+        int dot = fileName.indexOf('.');
+        return dot < 0 ? fileName : fileName.substring(0, dot);
+    }
+
+    public record FileMetadata(Path path, long size, long lastModified, MediaType contentType, String etag) {
+    }
+}
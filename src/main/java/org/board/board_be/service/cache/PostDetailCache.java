@@ -0,0 +1,78 @@
+package org.board.board_be.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.board.board_be.service.event.PostChangedEvent;
+import org.board.board_be.web.dto.PostResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 상세 캐시 (게시글 ID + 버전)
+ * - 게시글/댓글 변경이 커밋되면 해당 게시글의 버전을 올림 → 이전 버전 항목은 더 이상 사용되지 않음
+ * - 조회 전에 읽은 버전으로만 저장하므로, 조회 도중 변경된 결과가 새 버전으로 저장되지 않음
+ * - 저장되는 응답은 요청자와 무관한 형태(isAuthor = false), 요청마다 PostResponse.forViewer로 계산
+ * - 조회수/좋아요 수는 TTL 동안 이전 값일 수 있음
+ */
+@Component
+public class PostDetailCache {
+
+    private final Cache<Long, Entry> cache;
+
+    // 버전은 전역 증가값 사용. 마지막 변경 후 TTL의 2배 동안 보관하면
+    // 그 이전 버전으로 저장된 항목은 모두 만료되었으므로 기록이 없을 때 0으로 취급해도 안전함
+    private final Cache<Long, Long> versions;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public PostDetailCache(MeterRegistry meterRegistry,
+                           @Value("${board.detail-cache.maximum-size:1000}") long maximumSize,
+                           @Value("${board.detail-cache.ttl:30s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.versions = Caffeine.newBuilder()
+                .expireAfterWrite(ttl.multipliedBy(2))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postDetail");
+    }
+
+    public long currentVersion(Long postId) {
+        Long version = versions.getIfPresent(postId);
+        return version != null ? version : 0L;
+    }
+
+    /**
+     * @return 같은 버전의 캐시 항목, 없으면 null
+     */
+    public PostResponse get(Long postId, long version) {
+        Entry entry = cache.getIfPresent(postId);
+        return entry != null && entry.version() == version ? entry.detail() : null;
+    }
+
+    public void put(Long postId, long version, PostResponse detail) {
+        // 조회 도중 버전이 바뀌었으면 저장하지 않음
+        if (currentVersion(postId) == version) {
+            cache.put(postId, new Entry(version, detail));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.CREATED) {
+            return;
+        }
+        versions.put(event.postId(), sequence.incrementAndGet());
+        cache.invalidate(event.postId());
+    }
+
+    private record Entry(long version, PostResponse detail) {
+    }
+}
@@ -0,0 +1,135 @@
+package org.board.board_be.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.board.board_be.service.event.PostChangedEvent;
+import org.board.board_be.web.dto.PageResponse;
+import org.board.board_be.web.dto.PostListResponse;
+import org.board.board_be.web.json.SerializedJson;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 메인 목록(키워드 없음) 앞쪽 페이지 응답 캐시
+ * - 기본 정렬(최신순)과 기본 크기(20) 요청만 캐시: 임의의 size/sort 조합으로 캐시가 채워지지 않게 하고,
+ *   삭제 무효화(isAtOrAfter)도 최신순 정렬을 전제로 함
+ * - 직렬화된 응답 바이트(ApiResult 포함)를 함께 보관 → 캐시 적중 시 Jackson 직렬화 없음
+ * - 크기/시간 기반 제거 (Caffeine)
+ * - 게시글/댓글 변경 커밋 후 영향받는 페이지만 무효화
+ * - 조회수/좋아요 수, 앞 페이지의 전체 건수(totalElements)는 TTL 동안 이전 값일 수 있음
+ * - 메트릭: cache.gets{cache=postList,result=hit|miss}, cache.evictions 등
+ */
+@Component
+public class PostListCache {
+
+    // PostController.list의 @PageableDefault와 같아야 함
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    private final Cache<Key, Entry> cache;
+    private final ObjectMapper objectMapper;
+    private final int maxPages;
+
+    // 무효화가 일어날 때마다 증가 → 조회 도중 무효화된 결과는 캐시에 넣지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    public PostListCache(MeterRegistry meterRegistry,
+                         ObjectMapper objectMapper,
+                         @Value("${board.list-cache.max-pages:3}") int maxPages,
+                         @Value("${board.list-cache.maximum-size:200}") long maximumSize,
+                         @Value("${board.list-cache.ttl:10s}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.maxPages = maxPages;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postList");
+    }
+
+    public boolean isCacheable(Pageable pageable) {
+        return pageable.isPaged()
+                && pageable.getPageNumber() < maxPages
+                && pageable.getPageSize() == DEFAULT_PAGE_SIZE
+                && DEFAULT_SORT.equals(pageable.getSort());
+    }
+
+    public SerializedJson get(Pageable pageable, Supplier<PageResponse<PostListResponse>> loader) {
+        Key key = Key.of(pageable);
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.body();
+        }
+
+        long before = generation.get();
+        PageResponse<PostListResponse> loaded = loader.get();
+        Entry entry = new Entry(loaded, SerializedJson.success(objectMapper, loaded));
+        if (generation.get() == before) {
+            cache.put(key, entry);
+        }
+        return entry.body();
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.type()) {
+            // 새 글은 모든 페이지의 내용을 한 칸씩 밀어냄
+            case CREATED -> invalidateAll();
+            // 제목/댓글 수 변경은 해당 게시글이 보이는 페이지만
+            case UPDATED, COMMENT_ADDED, COMMENT_REMOVED -> invalidateIf(page -> contains(page, event.postId()));
+            // 삭제는 해당 게시글이 보이는 페이지와 그 뒤 페이지 전부 (한 칸씩 당겨짐)
+            case DELETED -> invalidateIf(page -> contains(page, event.postId()) || isAtOrAfter(page, event));
+            case COMMENT_EDITED -> {
+                // 목록에 댓글 내용은 노출되지 않음
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private void invalidateIf(Predicate<PageResponse<PostListResponse>> affected) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(entry -> affected.test(entry.page()));
+    }
+
+    private static boolean contains(PageResponse<PostListResponse> page, Long postId) {
+        return page.getContent().stream().anyMatch(p -> p.getId().equals(postId));
+    }
+
+    /**
+     * 페이지의 마지막 게시글이 변경된 게시글보다 오래되었거나 같으면 영향받는 페이지
+     */
+    private static boolean isAtOrAfter(PageResponse<PostListResponse> page, PostChangedEvent event) {
+        List<PostListResponse> content = page.getContent();
+        if (content.isEmpty() || event.createdAt() == null) {
+            return true;
+        }
+        return !content.get(content.size() - 1).getCreatedAt().isAfter(event.createdAt());
+    }
+
+    // 무효화 판단용 페이지 + 응답 바이트
+    private record Entry(PageResponse<PostListResponse> page, SerializedJson body) {
+    }
+
+    private record Key(int page, int size, Sort sort) {
+        static Key of(Pageable pageable) {
+            return new Key(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        }
+    }
+}
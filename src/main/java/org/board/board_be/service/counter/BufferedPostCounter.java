@@ -0,0 +1,102 @@
+package org.board.board_be.service.counter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 카운터 write-behind 버퍼
+ * - 요청 경로에서는 메모리(StripedCounter)에만 기록
+ * - flush() 시 게시글 ID 순으로 정렬해 "col = col + ?" 배치 UPDATE (한 트랜잭션)
+ * - 실패하면 꺼낸 증감량을 되돌려 넣고 다음 주기에 재시도
+ */
+@Slf4j
+public class BufferedPostCounter {
+
+    private static final int JDBC_BATCH_SIZE = 500;
+
+    private final PostCounter counter;
+    private final StripedCounter deltas;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String updateSql;
+
+    private final Timer flushTimer;
+    private final Counter flushedRows;
+    private final Counter flushFailures;
+
+    public BufferedPostCounter(PostCounter counter, int stripes, JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate, MeterRegistry registry) {
+        this.counter = counter;
+        this.deltas = new StripedCounter(stripes);
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.updateSql = "UPDATE posts SET " + counter.column() + " = " + counter.column() + " + ? WHERE id = ?";
+
+        Gauge.builder("board.counter.pending.delta", deltas, StripedCounter::pendingDelta)
+                .description("DB에 아직 반영되지 않은 카운터 증감량 합계")
+                .tag("counter", counter.tag())
+                .register(registry);
+        Gauge.builder("board.counter.pending.posts", deltas, StripedCounter::pendingKeys)
+                .description("반영 대기 중인 게시글 수")
+                .tag("counter", counter.tag())
+                .register(registry);
+        this.flushTimer = Timer.builder("board.counter.flush")
+                .tag("counter", counter.tag())
+                .register(registry);
+        this.flushedRows = Counter.builder("board.counter.flushed.rows")
+                .tag("counter", counter.tag())
+                .register(registry);
+        this.flushFailures = Counter.builder("board.counter.flush.failures")
+                .tag("counter", counter.tag())
+                .register(registry);
+    }
+
+    public void add(Long postId, long delta) {
+        deltas.add(postId, delta);
+    }
+
+    public long pendingDelta() {
+        return deltas.pendingDelta();
+    }
+
+    /**
+     * 누적된 증감량을 DB에 반영
+     * @return 갱신 대상 게시글 수
+     */
+    public int flush() {
+        Map<Long, Long> drained = deltas.drain();
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        // 여러 인스턴스가 동시에 flush해도 같은 순서로 행 락을 잡도록 ID 정렬 (데드락 방지)
+        List<Object[]> rows = new ArrayList<>(drained.size());
+        drained.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> rows.add(new Object[]{e.getValue(), e.getKey()}));
+
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                for (int from = 0; from < rows.size(); from += JDBC_BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(updateSql, rows.subList(from, Math.min(from + JDBC_BATCH_SIZE, rows.size())));
+                }
+            }));
+            flushedRows.increment(rows.size());
+            return rows.size();
+        } catch (RuntimeException ex) {
+            deltas.restore(drained);
+            flushFailures.increment();
+            log.warn("Failed to flush {} counter for {} posts, will retry", counter.tag(), rows.size(), ex);
+            return 0;
+        }
+    }
+}
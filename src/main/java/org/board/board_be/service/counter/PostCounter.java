@@ -0,0 +1,32 @@
+package org.board.board_be.service.counter;
+
+/**
+ * 지연 반영(write-behind) 대상 게시글 카운터 컬럼
+ */
+public enum PostCounter {
+
+    VIEW("view", "view_count"),
+    LIKE("like", "like_count");
+
+    private final String tag;
+    private final String column;
+
+    PostCounter(String tag, String column) {
+        this.tag = tag;
+        this.column = column;
+    }
+
+    /**
+     * 메트릭 태그 값
+     */
+    public String tag() {
+        return tag;
+    }
+
+    /**
+     * posts 테이블 컬럼명 (SQL에 직접 사용되므로 enum 상수로만 제한)
+     */
+    public String column() {
+        return column;
+    }
+}
@@ -0,0 +1,88 @@
+package org.board.board_be.service.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 ID별 증감량을 모아두는 스트라이프 카운터
+ * - 스레드마다 다른 스트라이프에 기록 → 인기 게시글 하나에 요청이 몰려도 같은 락에서 경합하지 않음
+ * - drain()은 키 단위 remove로 값을 가져가므로 동시에 들어온 증감이 유실되지 않음
+ */
+public class StripedCounter {
+
+    private final ConcurrentHashMap<Long, Long>[] stripes;
+    private final int mask;
+    private final LongAdder pendingDelta = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public StripedCounter(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ConcurrentHashMap[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.mask = size - 1;
+    }
+
+    public void add(Long key, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        stripe().merge(key, delta, (a, b) -> {
+            long sum = a + b;
+            return sum == 0 ? null : sum;
+        });
+        pendingDelta.add(delta);
+    }
+
+    /**
+     * 누적된 증감량을 모두 꺼내고 비움 (합이 0인 키는 제외)
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        long total = 0;
+        for (ConcurrentHashMap<Long, Long> stripe : stripes) {
+            for (Long key : stripe.keySet()) {
+                Long delta = stripe.remove(key);
+                if (delta != null) {
+                    drained.merge(key, delta, Long::sum);
+                    total += delta;
+                }
+            }
+        }
+        pendingDelta.add(-total);
+        drained.values().removeIf(v -> v == 0);
+        return drained;
+    }
+
+    /**
+     * 반영 실패한 증감량 되돌려 넣기
+     */
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    /**
+     * 아직 반영되지 않은 증감량 합계
+     */
+    public long pendingDelta() {
+        return pendingDelta.sum();
+    }
+
+    /**
+     * 아직 반영되지 않은 키(게시글) 수 (스트라이프 간 중복 포함 근사값)
+     */
+    public long pendingKeys() {
+        long keys = 0;
+        for (ConcurrentHashMap<Long, Long> stripe : stripes) {
+            keys += stripe.size();
+        }
+        return keys;
+    }
+
+    private ConcurrentHashMap<Long, Long> stripe() {
+        return stripes[(int) Thread.currentThread().threadId() & mask];
+    }
+}
@@ -0,0 +1,42 @@
+package org.board.board_be.service.counter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 조회수 집계 (write-behind)
+ * - 상세 조회 요청은 메모리 카운터만 증가 → GET 요청은 DB에 쓰지 않음
+ * - 주기적으로 배치 UPDATE, 정상 종료 시 마지막으로 한 번 더 반영
+ * - 화면에 보이는 조회수는 flush 주기만큼 늦게 반영될 수 있음
+ */
+@Service
+public class ViewCountService {
+
+    private final BufferedPostCounter views;
+
+    public ViewCountService(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${board.view-count.stripes:16}") int stripes) {
+        this.views = new BufferedPostCounter(PostCounter.VIEW, stripes, jdbcTemplate, transactionTemplate, meterRegistry);
+    }
+
+    public void recordView(Long postId) {
+        views.add(postId, 1);
+    }
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        views.flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        views.flush();
+    }
+}
@@ -0,0 +1,23 @@
+package org.board.board_be.service.event;
+
+import java.time.Instant;
+
+/**
+ * 게시글(또는 게시글의 댓글) 변경 이벤트
+ * - 캐시 무효화용, 커밋 이후(@TransactionalEventListener AFTER_COMMIT)에 처리
+ *
+ * @param postId    변경된 게시글 ID
+ * @param createdAt 게시글 작성 시각 (목록 내 위치 판단용)
+ * @param type      변경 종류
+ */
+public record PostChangedEvent(Long postId, Instant createdAt, Type type) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        COMMENT_ADDED,
+        COMMENT_EDITED,
+        COMMENT_REMOVED
+    }
+}
@@ -0,0 +1,37 @@
+package org.board.board_be.service.image;
+
+import java.util.Locale;
+
+/**
+ * 이미지 변형 (긴 변 기준 최대 크기)
+ */
+public enum ImageVariant {
+
+    THUMB("thumb", 320),
+    MEDIUM("medium", 1024);
+
+    private final String suffix;
+    private final int maxSize;
+
+    ImageVariant(String suffix, int maxSize) {
+        this.suffix = suffix;
+        this.maxSize = maxSize;
+    }
+
+    public String suffix() {
+        return suffix;
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    public static ImageVariant from(String value) {
+        for (ImageVariant variant : values()) {
+            if (variant.suffix.equals(value.toLowerCase(Locale.ROOT))) {
+                return variant;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 이미지 변형입니다: " + value);
+    }
+}
@@ -0,0 +1,258 @@
+package org.board.board_be.service.image;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.board.board_be.domain.post.PostFile;
+import org.board.board_be.service.FileStorageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 첨부 파일의 축소 변형(썸네일 등) 생성
+ * - 게시글 작성이 커밋된 뒤 전용 스레드 풀에서 생성, 요청 스레드는 디코딩을 기다리지 않음
+ * - 큐가 가득 차면 작업을 버림 (다운로드 시 변형이 없으면 원본을 주고 다시 생성 요청)
+ * - 변형 파일은 원본 옆에 "{해시}_{변형}.{jpg|png}"로 저장 (내용 주소 기반 파일만 대상)
+ * - 큰 이미지는 서브샘플링으로 읽어 디코딩 메모리를 줄이고, 픽셀 수 상한을 넘으면 건너뜀
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final Set<String> READABLE = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+
+    private final FileStorageService fileStorageService;
+    private final ThreadPoolExecutor executor;
+    private final long maxPixels;
+
+    // 같은 파일에 대한 중복 작업 방지
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Counter generated;
+    private final Counter rejected;
+    private final Counter skipped;
+    private final Counter failures;
+
+    public ImageVariantService(FileStorageService fileStorageService,
+                               MeterRegistry meterRegistry,
+                               @Value("${board.image-variants.threads:2}") int threads,
+                               @Value("${board.image-variants.queue-capacity:100}") int queueCapacity,
+                               @Value("${board.image-variants.max-pixels:40000000}") long maxPixels) {
+        this.fileStorageService = fileStorageService;
+        this.maxPixels = maxPixels;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "image-variant-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("board.image.variants.queue", executor, e -> e.getQueue().size())
+                .description("생성 대기 중인 이미지 변형 작업 수")
+                .register(meterRegistry);
+        this.generated = Counter.builder("board.image.variants.generated").register(meterRegistry);
+        this.rejected = Counter.builder("board.image.variants.rejected")
+                .description("큐가 가득 차 버려진 작업 수")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("board.image.variants.skipped")
+                .description("원본이 없거나 디코딩할 수 없거나 픽셀 수 상한을 넘은 이미지 수")
+                .register(meterRegistry);
+        this.failures = Counter.builder("board.image.variants.failures").register(meterRegistry);
+    }
+
+    /**
+     * 저장된 변형 파일명, 변형을 만들지 않는 파일이면 null
+     */
+    public static String variantFileName(String fileName, ImageVariant variant) {
+        String hash = FileStorageService.contentHashOf(fileName);
+        String extension = extensionOf(fileName);
+        if (hash == null || !READABLE.contains(extension)) {
+            return null;
+        }
+        return hash + "_" + variant.suffix() + "." + outputFormat(extension);
+    }
+
+    /**
+     * 첨부 파일들의 변형 생성 예약 (트랜잭션 안이면 커밋 후 시작)
+     */
+    public void generateAfterCommit(List<PostFile> files) {
+        List<String> storageKeys = files.stream()
+                .filter(file -> file.getMimeType() != null && file.getMimeType().startsWith("image/"))
+                .map(PostFile::getStorageKey)
+                .filter(key -> key != null && variantFileName(key, ImageVariant.THUMB) != null)
+                .distinct()
+                .toList();
+        if (storageKeys.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            storageKeys.forEach(this::submit);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                storageKeys.forEach(ImageVariantService.this::submit);
+            }
+        });
+    }
+
+    /**
+     * 변형 생성 요청 (블로킹 없음, 큐가 가득 차면 버림)
+     */
+    public void submit(String storageKey) {
+        if (variantFileName(storageKey, ImageVariant.THUMB) == null || !inFlight.add(storageKey)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(storageKey);
+                } finally {
+                    inFlight.remove(storageKey);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            inFlight.remove(storageKey);
+            rejected.increment();
+        }
+    }
+
+    void generate(String storageKey) {
+        List<ImageVariant> missing = Arrays.stream(ImageVariant.values())
+                .filter(variant -> !Files.exists(fileStorageService.resolve(variantFileName(storageKey, variant))))
+                .sorted(Comparator.comparingInt(ImageVariant::maxSize).reversed())
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        BufferedImage source;
+        try {
+            source = read(fileStorageService.resolve(storageKey), missing.get(0).maxSize());
+        } catch (IOException | RuntimeException ex) {
+            // 원본이 없거나 디코딩할 수 없는 이미지 - 클라이언트 요청으로 반복될 수 있으므로 스택 없이 debug
+            skipped.increment();
+            log.debug("이미지 변형 생성 건너뜀: {} ({})", storageKey, ex.toString());
+            return;
+        }
+        if (source == null) {
+            skipped.increment();
+            return;
+        }
+
+        try {
+            String format = outputFormat(extensionOf(storageKey));
+            for (ImageVariant variant : missing) {
+                BufferedImage scaled = scale(source, variant.maxSize(), "png".equals(format));
+                Path temp = fileStorageService.createTempFile();
+                try {
+                    if (!ImageIO.write(scaled, format, temp.toFile())) {
+                        throw new IOException("이미지 writer가 없습니다: " + format);
+                    }
+                    fileStorageService.moveIntoPlace(temp, variantFileName(storageKey, variant));
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+                generated.increment();
+            }
+        } catch (IOException | RuntimeException ex) {
+            failures.increment();
+            log.warn("이미지 변형 생성 실패: {}", storageKey, ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 목표 크기의 2배 이상이 남도록 서브샘플링해서 디코딩
+     * @return 읽을 수 없거나 픽셀 수 상한을 넘으면 null
+     */
+    private BufferedImage read(Path path, int targetSize) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(path.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    return null;
+                }
+                int subsampling = Math.max(1, Math.max(width, height) / (targetSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int maxSize, boolean alpha) {
+        double ratio = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage target = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    // 투명도가 있을 수 있는 형식은 png, 나머지는 jpg
+    private static String outputFormat(String extension) {
+        return extension.equals("png") || extension.equals("gif") ? "png" : "jpg";
+    }
+
+    private static String extensionOf(String fileName) {
+        int i = fileName.lastIndexOf('.');
+        return i < 0 ? "" : fileName.substring(i + 1).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,91 @@
+package org.board.board_be.service.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 n-gram(bigram) 토크나이저
+ * - PostgreSQL 기본 텍스트 검색 설정은 한국어 형태소 분석을 지원하지 않으므로
+ *   애플리케이션에서 2-gram 토큰을 만들어 'simple' 설정의 tsvector로 색인
+ * - 색인/검색 양쪽에 같은 규칙을 적용해야 함
+ */
+public final class NgramTokenizer {
+
+    private static final int GRAM = 2;
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰 문자열 (공백 구분, 중복 허용 → ts_rank 빈도 반영)
+     */
+    public static String toIndexText(String text) {
+        return String.join(" ", tokenize(text));
+    }
+
+    /**
+     * 검색어 → tsquery 문자열
+     * - 모든 bigram을 AND(&)로 연결
+     * - 한 글자 단어는 접두 검색(:*)으로 처리
+     * - 토큰이 없으면 빈 문자열
+     */
+    public static String toQuery(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(keyword)) {
+            if (word.codePointCount(0, word.length()) < GRAM) {
+                terms.add(word + ":*");
+            } else {
+                terms.addAll(grams(word));
+            }
+        }
+        return String.join(" & ", terms);
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            if (word.codePointCount(0, word.length()) < GRAM) {
+                tokens.add(word);
+            } else {
+                tokens.addAll(grams(word));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 문자/숫자가 아닌 문자를 기준으로 단어 분리 (소문자 정규화)
+     */
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return words;
+        }
+
+        StringBuilder current = new StringBuilder();
+        text.toLowerCase(Locale.ROOT).codePoints().forEach(cp -> {
+            if (Character.isLetterOrDigit(cp)) {
+                current.appendCodePoint(cp);
+            } else if (!current.isEmpty()) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        });
+        if (!current.isEmpty()) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+
+    private static List<String> grams(String word) {
+        int[] cps = word.codePoints().toArray();
+        List<String> grams = new ArrayList<>(cps.length - GRAM + 1);
+        for (int i = 0; i + GRAM <= cps.length; i++) {
+            grams.add(new String(cps, i, GRAM));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,132 @@
+package org.board.board_be.service.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.board.board_be.domain.post.Post;
+import org.board.board_be.domain.post.PostRepository;
+import org.board.board_be.web.dto.PostListResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 게시글 전문 검색
+ * - posts.search_vector(tsvector) + GIN 인덱스
+ * - 한국어는 NgramTokenizer의 bigram 토큰으로 색인
+ * - 색인은 PostService.create/update/delete에서 같은 트랜잭션으로 갱신
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 기동 시 search_vector 컬럼/인덱스 생성 여부 (기본 끔, 스키마는 db/migration V3이 만듦)
+    // 마이그레이션 없이 띄운 로컬 DB에서만 켬
+    @Value("${board.search.auto-ddl:false}")
+    private boolean autoDdl;
+
+    @Value("${board.search.backfill-batch-size:500}")
+    private int backfillBatchSize;
+
+    /**
+     * 키워드 검색 (랭킹순)
+     */
+    @Transactional(readOnly = true)
+    public Page<PostListResponse> search(String keyword, Pageable pageable) {
+        String query = NgramTokenizer.toQuery(keyword);
+        if (query.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        // 랭킹 정렬을 사용하므로 클라이언트 sort는 무시
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Page<Long> ids = postRepository.searchRankedIds(query, unsorted);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+
+        List<Long> rankedIds = ids.getContent();
+        Map<Long, Integer> rank = IntStream.range(0, rankedIds.size()).boxed()
+                .collect(Collectors.toMap(rankedIds::get, i -> i));
+        List<PostListResponse> content = postRepository.findListByIds(rankedIds).stream()
+                .sorted(Comparator.comparing(p -> rank.get(p.getId())))
+                .toList();
+
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
+    }
+
+    public void index(Post post) {
+        postRepository.updateSearchVector(post.getId(),
+                NgramTokenizer.toIndexText(post.getTitle()),
+                NgramTokenizer.toIndexText(post.getContent()));
+    }
+
+    public void remove(Long postId) {
+        postRepository.clearSearchVector(postId);
+    }
+
+    /**
+     * 기동 시 색인 준비
+     * - auto-ddl을 켠 경우에만 컬럼/GIN 인덱스 생성 (기본은 db/migration 스크립트로 적용)
+     *   인덱스는 CONCURRENTLY로 만들어 posts 쓰기를 막지 않음 (트랜잭션 밖에서 실행)
+     * - 색인이 없는 기존 게시글을 배치로 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void prepareIndex() {
+        if (autoDdl) {
+            jdbcTemplate.execute("ALTER TABLE posts ADD COLUMN IF NOT EXISTS search_vector tsvector");
+            jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_search_vector ON posts USING GIN (search_vector)");
+        }
+
+        int total = 0;
+        while (true) {
+            List<Object[]> batch = jdbcTemplate.query("""
+                    SELECT id, title, content FROM posts
+                    WHERE search_vector IS NULL AND is_deleted = false
+                    ORDER BY id
+                    LIMIT ?
+                    """,
+                    (rs, rowNum) -> new Object[]{
+                            rs.getLong("id"),
+                            NgramTokenizer.toIndexText(rs.getString("title")),
+                            NgramTokenizer.toIndexText(rs.getString("content"))
+                    },
+                    backfillBatchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            jdbcTemplate.batchUpdate("""
+                    UPDATE posts
+                    SET search_vector = setweight(to_tsvector('simple', ?), 'A')
+                                     || setweight(to_tsvector('simple', ?), 'B')
+                    WHERE id = ?
+                    """,
+                    batch.stream().map(row -> new Object[]{row[1], row[2], row[0]}).toList());
+            total += batch.size();
+        }
+
+        if (total > 0) {
+            log.info("Search index backfilled for {} posts", total);
+        }
+    }
+}
@@ -12,7 +12,9 @@ import org.board.board_be.service.CommentService;
 import org.board.board_be.web.dto.ApiResult;
 import org.board.board_be.web.dto.CommentRequest;
 import org.board.board_be.web.dto.CommentResponse;
+import org.board.board_be.web.dto.CursorPageResponse;
 import org.board.board_be.web.exception.ErrorResponse;
+import org.board.board_be.web.ratelimit.RateLimited;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,23 +28,71 @@ public class CommentController {
 
     private final CommentService commentService;
 
-    @Operation(summary = "댓글 목록 조회", description = "특정 게시글의 댓글 목록 조회")
+    @Operation(
+            summary = "댓글 목록 조회 (커서 기반)",
+            description = "최상위 댓글을 작성순으로 페이징, 댓글마다 replyCount와 앞쪽 대댓글 미리보기(replies) 포함. cursor가 없으면 첫 페이지"
+    )
     @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping("/boards/{postId}/comments")
-    public ResponseEntity<ApiResult<List<CommentResponse>>> list(
+    public ResponseEntity<ApiResult<CursorPageResponse<CommentResponse>>> listByCursor(
             @Parameter(description = "게시글 ID", required = true) @PathVariable Long postId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)") @RequestParam(defaultValue = "20") int size,
             @Parameter(description = "현재 사용자 ID (로그인한 경우)", required = false) @RequestParam(required = false) Long userId) {
 
+        return ResponseEntity.ok(
+                ApiResult.<CursorPageResponse<CommentResponse>>builder()
+                        .success(true)
+                        .data(commentService.listByCursor(postId, cursor, size, userId))
+                        .build()
+        );
+    }
+
+    @Operation(
+            summary = "댓글 전체 조회",
+            description = "all=true일 때만 게시글의 댓글을 한 번에 조회 (tree=true면 대댓글을 replies에 중첩). "
+                    + "댓글이 " + CommentService.MAX_FULL_LIST_SIZE + "개를 넘으면 400"
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "댓글 수가 전체 조회 상한을 넘음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping(value = "/boards/{postId}/comments", params = "all=true")
+    public ResponseEntity<ApiResult<List<CommentResponse>>> list(
+            @Parameter(description = "게시글 ID", required = true) @PathVariable Long postId,
+            @Parameter(description = "현재 사용자 ID (로그인한 경우)", required = false) @RequestParam(required = false) Long userId,
+            @Parameter(description = "트리 형태로 조회 여부") @RequestParam(defaultValue = "false") boolean tree) {
+
         return ResponseEntity.ok(
                 ApiResult.<List<CommentResponse>>builder()
                         .success(true)
-                        .data(commentService.list(postId, userId))
+                        .data(tree ? commentService.listTree(postId, userId) : commentService.list(postId, userId))
+                        .build()
+        );
+    }
+
+    @Operation(summary = "대댓글 목록 조회 (커서 기반)", description = "특정 댓글의 대댓글을 작성순으로 페이징")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/boards/{postId}/comments/{commentId}/replies")
+    public ResponseEntity<ApiResult<CursorPageResponse<CommentResponse>>> listReplies(
+            @Parameter(description = "게시글 ID", required = true) @PathVariable Long postId,
+            @Parameter(description = "댓글 ID", required = true) @PathVariable Long commentId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "현재 사용자 ID (로그인한 경우)", required = false) @RequestParam(required = false) Long userId) {
+
+        return ResponseEntity.ok(
+                ApiResult.<CursorPageResponse<CommentResponse>>builder()
+                        .success(true)
+                        .data(commentService.listReplies(postId, commentId, cursor, size, userId))
                         .build()
         );
     }
 
     @Operation(summary = "댓글 작성", description = "댓글 또는 대댓글 작성")
     @ApiResponse(responseCode = "200", description = "작성 성공")
+    @ApiResponse(responseCode = "429", description = "요청 속도 제한 초과 (Retry-After 헤더)", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @RateLimited("comment-write")
     @PostMapping("/boards/{postId}/comments")
     public ResponseEntity<ApiResult<Map<String, Long>>> create(
             @Parameter(description = "게시글 ID", required = true) @PathVariable Long postId,
@@ -61,6 +111,8 @@ public class CommentController {
 
     @Operation(summary = "댓글 수정", description = "댓글 내용 수정")
     @ApiResponse(responseCode = "200", description = "수정 성공")
+    @ApiResponse(responseCode = "429", description = "요청 속도 제한 초과 (Retry-After 헤더)", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @RateLimited("comment-write")
     @PutMapping("/boards/{postId}/comments/{id}")
     public ResponseEntity<ApiResult<Void>> update(
             @Parameter(description = "게시글 ID", required = true) @PathVariable Long postId,
@@ -80,6 +132,8 @@ public class CommentController {
 
     @Operation(summary = "댓글 삭제", description = "댓글 소프트 삭제")
     @ApiResponse(responseCode = "200", description = "삭제 성공")
+    @ApiResponse(responseCode = "429", description = "요청 속도 제한 초과 (Retry-After 헤더)", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @RateLimited("comment-write")
     @DeleteMapping("/boards/{postId}/comments/{id}")
     public ResponseEntity<ApiResult<Void>> delete(
             @Parameter(description = "게시글 ID", required = true) @PathVariable Long postId,
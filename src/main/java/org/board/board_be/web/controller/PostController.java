@@ -7,18 +7,23 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.board.board_be.domain.post.PostFile;
 import org.board.board_be.service.FileStorageService;
+import org.board.board_be.service.LikeService;
 import org.board.board_be.service.PostService;
+import org.board.board_be.service.image.ImageVariant;
 import org.board.board_be.web.dto.ApiResult;
+import org.board.board_be.web.dto.CursorPageResponse;
+import org.board.board_be.web.dto.PageResponse;
 import org.board.board_be.web.dto.PostListResponse;
 import org.board.board_be.web.dto.PostRequest;
 import org.board.board_be.web.dto.PostResponse;
 import org.board.board_be.web.exception.ErrorResponse;
-import org.springframework.core.io.Resource;
-import org.springframework.data.domain.Page;
+import org.board.board_be.web.file.FileDownloadHandler;
+import org.board.board_be.web.ratelimit.RateLimited;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
@@ -29,7 +34,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -41,21 +45,40 @@ public class PostController {
 
     private final PostService postService;
     private final FileStorageService fileStorageService;
+    private final FileDownloadHandler fileDownloadHandler;
+    private final LikeService likeService;
 
     @Operation(
             summary = "게시글 목록 조회 (메인페이지용)",
             description = "쿼리 최적화된 게시글 목록 조회 - 본문 제외, 댓글 수 포함, N+1 해결"
     )
-    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "200", description = "조회 성공 - ApiResult로 감싼 PageResponse<PostListResponse> (Accept-Encoding: gzip이면 압축)",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = PageResponse.class)))
     @GetMapping
-    public ResponseEntity<ApiResult<Page<PostListResponse>>> list(
-            @Parameter(description = "검색 키워드 (제목, 내용)") @RequestParam(required = false) String keyword,
-            @Parameter(description = "페이징 정보") @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+    public ResponseEntity<byte[]> list(
+            @Parameter(description = "검색 키워드 (제목, 내용 / 입력 시 관련도순 정렬)") @RequestParam(required = false) String keyword,
+            @Parameter(description = "페이징 정보") @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        // 미리 직렬화된 본문을 그대로 씀 (캐시 적중 시 Jackson을 거치지 않음)
+        return postService.list(keyword, pageable).toResponse(acceptEncoding);
+    }
+
+    @Operation(
+            summary = "게시글 목록 조회 (커서 기반)",
+            description = "(createdAt, id) 키셋 페이징 - 전체 건수 없이 nextCursor/prevCursor 반환. 첫 페이지는 cursor를 빈 값으로 요청"
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResult<CursorPageResponse<PostListResponse>>> listByCursor(
+            @Parameter(description = "이전 응답의 nextCursor 또는 prevCursor (첫 페이지는 빈 값)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)") @RequestParam(defaultValue = "20") int size) {
 
         return ResponseEntity.ok(
-                ApiResult.<Page<PostListResponse>>builder()
+                ApiResult.<CursorPageResponse<PostListResponse>>builder()
                         .success(true)
-                        .data(postService.list(keyword, pageable))
+                        .data(postService.listByCursor(cursor, size))
                         .build()
         );
     }
@@ -79,6 +102,8 @@ public class PostController {
     @Operation(summary = "게시글 작성", description = "게시글 작성 (파일 업로드 지원)")
     @ApiResponse(responseCode = "200", description = "작성 성공")
     @ApiResponse(responseCode = "400", description = "입력값 검증 실패", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "429", description = "요청 속도 제한 초과 (Retry-After 헤더)", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @RateLimited("post-write")
     @PostMapping(consumes = {"multipart/form-data"})
     public ResponseEntity<ApiResult<Map<String, Long>>> create(
             @RequestParam Long userId,
@@ -87,7 +112,7 @@ public class PostController {
             @Parameter(description = "첨부 파일 (최대 10개, 각 5MB)")
             @RequestPart(value = "files", required = false) List<MultipartFile> files) {
 
-        List<PostFile> fileEntities = new ArrayList<>();
+        List<PostFile> fileEntities = List.of();
         if (files != null && !files.isEmpty()) {
             if (files.size() > 10) {
                 throw new IllegalArgumentException("파일은 최대 10개까지 업로드 가능합니다");
@@ -96,14 +121,9 @@ public class PostController {
                 if (file.getSize() > 5 * 1024 * 1024L) {
                     throw new IllegalArgumentException("파일 크기는 5MB를 초과할 수 없습니다");
                 }
-                String url = fileStorageService.store(file);
-                fileEntities.add(PostFile.builder()
-                        .fileUrl(url)
-                        .originalName(file.getOriginalFilename())
-                        .fileSize(file.getSize())
-                        .mimeType(file.getContentType())
-                        .build());
             }
+            // 검증 통과 후 병렬 저장 (같은 내용은 기존 파일 재사용)
+            fileEntities = fileStorageService.storeAll(files);
         }
 
         Long postId = postService.create(userId, request, fileEntities);
@@ -120,6 +140,8 @@ public class PostController {
     @ApiResponse(responseCode = "200", description = "수정 성공")
     @ApiResponse(responseCode = "403", description = "수정 권한 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "429", description = "요청 속도 제한 초과 (Retry-After 헤더)", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @RateLimited("post-write")
     @PutMapping("/{id}")
     public ResponseEntity<ApiResult<Void>> update(
             @PathVariable Long id,
@@ -141,6 +163,8 @@ public class PostController {
     @ApiResponse(responseCode = "200", description = "삭제 성공")
     @ApiResponse(responseCode = "403", description = "삭제 권한 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "429", description = "요청 속도 제한 초과 (Retry-After 헤더)", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @RateLimited("post-write")
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResult<Void>> delete(
             @PathVariable Long id,
@@ -156,34 +180,52 @@ public class PostController {
         );
     }
 
-    @Operation(summary = "파일 다운로드", description = "업로드된 파일을 다운로드합니다")
+    @Operation(summary = "게시글 좋아요", description = "사용자당 1회 (이미 누른 경우에도 성공 응답). 좋아요 수는 수 초 내에 반영")
+    @ApiResponse(responseCode = "200", description = "좋아요 성공")
+    @ApiResponse(responseCode = "404", description = "게시글 또는 사용자를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @PostMapping("/{id}/likes")
+    public ResponseEntity<ApiResult<Map<String, Boolean>>> like(
+            @Parameter(description = "게시글 ID", required = true) @PathVariable Long id,
+            @Parameter(description = "사용자 ID", required = true) @RequestParam Long userId) {
+
+        return ResponseEntity.ok(
+                ApiResult.<Map<String, Boolean>>builder()
+                        .success(true)
+                        .data(Map.of("liked", likeService.like(id, userId)))
+                        .build()
+        );
+    }
+
+    @Operation(summary = "게시글 좋아요 취소", description = "누르지 않은 경우에도 성공 응답")
+    @ApiResponse(responseCode = "200", description = "취소 성공")
+    @ApiResponse(responseCode = "404", description = "게시글 또는 사용자를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @DeleteMapping("/{id}/likes")
+    public ResponseEntity<ApiResult<Map<String, Boolean>>> unlike(
+            @Parameter(description = "게시글 ID", required = true) @PathVariable Long id,
+            @Parameter(description = "사용자 ID", required = true) @RequestParam Long userId) {
+
+        return ResponseEntity.ok(
+                ApiResult.<Map<String, Boolean>>builder()
+                        .success(true)
+                        .data(Map.of("liked", likeService.unlike(id, userId)))
+                        .build()
+        );
+    }
+
+    @Operation(summary = "파일 다운로드", description = "업로드된 파일을 다운로드합니다 (Range, ETag/304 지원)")
     @ApiResponse(responseCode = "200", description = "다운로드 성공")
+    @ApiResponse(responseCode = "206", description = "부분 응답 (Range)")
+    @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since)")
     @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음")
+    @ApiResponse(responseCode = "416", description = "요청 범위가 파일 크기를 벗어남")
     @GetMapping("/files/{fileName:.+}")
-    public ResponseEntity<Resource> downloadFile(
+    public void downloadFile(
             @Parameter(description = "파일명", required = true) @PathVariable String fileName,
-            HttpServletRequest request) {
-
-        Resource resource = fileStorageService.loadFileAsResource(fileName);
-
-        // 파일의 Content-Type 결정
-        String contentType = null;
-        try {
-            contentType = request.getServletContext().getMimeType(resource.getFile().getAbsolutePath());
-        } catch (IOException ex) {
-            // Content-Type을 결정할 수 없으면 기본값 사용
-        }
-
-        if (contentType == null) {
-            contentType = "application/octet-stream";
-        }
+            @Parameter(description = "이미지 변형 (thumb: 320px, medium: 1024px), 아직 없으면 원본")
+            @RequestParam(required = false) String variant,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                // 브라우저 캐싱: 1년간 캐시 (이미지/파일은 변경되지 않으므로)
-                .cacheControl(org.springframework.http.CacheControl.maxAge(365, java.util.concurrent.TimeUnit.DAYS))
-                // 이미지는 인라인 표시, 다운로드 아님
-                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                .body(resource);
+        fileDownloadHandler.handle(fileName, variant != null ? ImageVariant.from(variant) : null, request, response);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package org.board.board_be.web.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.board.board_be.service.image.ImageVariant;
+import org.board.board_be.web.file.FileDownloadHandler;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * PostFile.fileUrl(/uploads/{파일명}) 경로 제공
+ * - 디렉토리 분할 배치와 이전 평면 배치를 모두 조회해야 하므로 정적 리소스 매핑 대신 사용
+ */
+@Tag(name = "첨부 파일", description = "업로드 파일 제공 API")
+@RestController
+@RequiredArgsConstructor
+public class UploadController {
+
+    private final FileDownloadHandler fileDownloadHandler;
+
+    @Operation(summary = "업로드 파일 조회", description = "게시글 첨부 파일 URL (Range, ETag/304 지원)")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음")
+    @GetMapping("/uploads/{fileName:.+}")
+    public void upload(
+            @Parameter(description = "파일명", required = true) @PathVariable String fileName,
+            @Parameter(description = "이미지 변형 (thumb: 320px, medium: 1024px), 아직 없으면 원본")
+            @RequestParam(required = false) String variant,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        fileDownloadHandler.handle(fileName, variant != null ? ImageVariant.from(variant) : null, request, response);
+    }
+}
@@ -43,6 +43,24 @@ public class UserController {
         );
     }
 
+    @Operation(summary = "아이디 중복 확인", description = "가입 가능한 아이디인지 확인합니다.")
+    @ApiResponse(responseCode = "200", description = "확인 성공")
+    @ApiResponse(responseCode = "400", description = "아이디 누락",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResult<Map<String, Object>>> checkUsername(
+            @RequestParam String username) {
+
+        boolean available = userService.isUsernameAvailable(username);
+
+        return ResponseEntity.ok(
+                ApiResult.<Map<String, Object>>builder()
+                        .success(true)
+                        .data(Map.of("username", username, "available", available))
+                        .build()
+        );
+    }
+
     @Operation(summary = "로그인", description = "사용자 로그인 / 회원 정보 반환")
     @ApiResponse(responseCode = "200", description = "로그인 성공")
     @ApiResponse(responseCode = "400", description = "로그인 실패",
@@ -1,5 +1,7 @@
 package org.board.board_be.web.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,20 +10,29 @@ import org.board.board_be.domain.comment.Comment;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class CommentResponse {
 
     private Long id;
     private String content;
     private String authorNickname;
     private Boolean isAuthor;
+    // isAuthor 계산용 (응답에는 노출하지 않음)
+    @JsonIgnore
+    private Long authorId;
     private Long parentId;
     private Instant createdAt;
+    // 커서 페이징 조회에서만 채움 (replies는 앞부분 미리보기)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long replyCount;
 
     @Builder.Default
     private List<CommentResponse> replies = new ArrayList<>();
@@ -35,8 +46,44 @@ public class CommentResponse {
                 .content(comment.getContent())
                 .authorNickname(comment.getAuthor().getNickname())
                 .isAuthor(isAuthor)
+                .authorId(comment.getAuthor().getId())
                 .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
                 .createdAt(comment.getCreatedAt())
                 .build();
     }
+
+    /**
+     * 작성순 댓글 목록 → 트리 (한 번의 순회, O(n))
+     * - 부모가 목록에 없으면(삭제된 부모) 최상위 댓글로 취급
+     * - 각 단계의 replies는 입력 순서(작성순)를 유지
+     */
+    public static List<CommentResponse> toTree(List<CommentResponse> comments) {
+        Map<Long, CommentResponse> byId = new HashMap<>(comments.size() * 2);
+        for (CommentResponse comment : comments) {
+            byId.put(comment.getId(), comment);
+        }
+
+        List<CommentResponse> roots = new ArrayList<>();
+        for (CommentResponse comment : comments) {
+            CommentResponse parent = comment.getParentId() != null ? byId.get(comment.getParentId()) : null;
+            if (parent != null) {
+                parent.getReplies().add(comment);
+            } else {
+                roots.add(comment);
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * 요청자 기준 응답 생성 (isAuthor만 다시 계산, 대댓글 포함)
+     */
+    public CommentResponse forViewer(Long currentUserId) {
+        return this.toBuilder()
+                .isAuthor(currentUserId != null && currentUserId.equals(authorId))
+                .replies(replies == null ? new ArrayList<>() : replies.stream()
+                        .map(reply -> reply.forViewer(currentUserId))
+                        .collect(Collectors.toList()))
+                .build();
+    }
 }
@@ -0,0 +1,36 @@
+package org.board.board_be.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이징 응답
+ * - 전체 건수(COUNT)를 계산하지 않음
+ * - nextCursor / prevCursor를 그대로 다음 요청의 cursor 파라미터로 사용
+ */
+@Schema(description = "커서 기반 페이징 응답")
+@Getter
+@Builder
+public class CursorPageResponse<T> {
+
+    @Schema(description = "조회 결과")
+    private List<T> content;
+
+    @Schema(description = "페이지 크기", example = "20")
+    private int size;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    @Schema(description = "이전 페이지 존재 여부")
+    private boolean hasPrev;
+
+    @Schema(description = "다음 페이지 커서 (없으면 null)")
+    private String nextCursor;
+
+    @Schema(description = "이전 페이지 커서 (없으면 null)")
+    private String prevCursor;
+}
@@ -0,0 +1,66 @@
+package org.board.board_be.web.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이징용 불투명 커서
+ * - (createdAt, id) 쌍과 조회 방향을 Base64(URL-safe)로 인코딩
+ * - createdAt은 PostgreSQL TIMESTAMPTZ 정밀도(마이크로초)로 보관
+ */
+public record KeysetCursor(Instant createdAt, Long id, Direction direction) {
+
+    public enum Direction {
+        NEXT, PREV
+    }
+
+    public static KeysetCursor next(Instant createdAt, Long id) {
+        return new KeysetCursor(createdAt, id, Direction.NEXT);
+    }
+
+    public static KeysetCursor prev(Instant createdAt, Long id) {
+        return new KeysetCursor(createdAt, id, Direction.PREV);
+    }
+
+    public boolean isPrev() {
+        return direction == Direction.PREV;
+    }
+
+    public String encode() {
+        long micros = createdAt.getEpochSecond() * 1_000_000L + createdAt.getNano() / 1_000;
+        String raw = (isPrev() ? "p" : "n") + ":" + micros + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열 해석
+     * - 빈 문자열/null이면 첫 페이지(null 반환)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다");
+            }
+
+            Direction direction = switch (parts[0]) {
+                case "n" -> Direction.NEXT;
+                case "p" -> Direction.PREV;
+                default -> throw new IllegalArgumentException("유효하지 않은 커서입니다");
+            };
+            long micros = Long.parseLong(parts[1]);
+            Instant createdAt = Instant.ofEpochSecond(
+                    Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+
+            return new KeysetCursor(createdAt, Long.parseLong(parts[2]), direction);
+        } catch (IllegalArgumentException ex) {
+            // NumberFormatException, Base64 디코딩 오류 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.board.board_be.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * 번호 기반 페이징 응답
+ * - Page/PagedModel 대신 목록에 필요한 값만 평평하게 담음
+ */
+@Schema(description = "번호 기반 페이징 응답")
+@Getter
+@Builder
+public class PageResponse<T> {
+
+    @Schema(description = "조회 결과")
+    private List<T> content;
+
+    @Schema(description = "페이지 번호 (0부터)", example = "0")
+    private int page;
+
+    @Schema(description = "페이지 크기", example = "20")
+    private int size;
+
+    @Schema(description = "전체 건수", example = "100")
+    private long totalElements;
+
+    @Schema(description = "전체 페이지 수", example = "5")
+    private int totalPages;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    public static <T> PageResponse<T> from(Page<T> page) {
+        return PageResponse.<T>builder()
+                .content(page.getContent())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .hasNext(page.hasNext())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package org.board.board_be.web.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,7 +15,7 @@ import java.util.stream.Collectors;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class PostResponse {
 
     private Long id;
@@ -22,12 +23,25 @@ public class PostResponse {
     private String content;
     private String authorNickname;
     private Boolean isAuthor;
+    // isAuthor 계산용 (응답에는 노출하지 않음)
+    @JsonIgnore
+    private Long authorId;
     private Long viewCount;
     private Long likeCount;
     private Instant createdAt;
     private Instant updatedAt;
     private List<PostFileDto> files;
+    private Long commentCount;
+    // 최상위 댓글 첫 페이지 (대댓글은 미리보기만)
     private List<CommentResponse> comments;
+    // 다음 댓글 페이지 커서 (GET /boards/{id}/comments?cursor=...), 없으면 null
+    private String commentNextCursor;
+
+    public static PostResponse from(Post post, CursorPageResponse<CommentResponse> commentPage, Long currentUserId) {
+        return from(post, commentPage.getContent(), currentUserId).toBuilder()
+                .commentNextCursor(commentPage.getNextCursor())
+                .build();
+    }
 
     public static PostResponse from(Post post, List<CommentResponse> comments, Long currentUserId) {
         // 현재 사용자가 작성자인지 확인
@@ -39,10 +53,12 @@ public class PostResponse {
                 .content(post.getContent())
                 .authorNickname(post.getAuthor().getNickname())
                 .isAuthor(isAuthor)
+                .authorId(post.getAuthor().getId())
                 .viewCount(post.getViewCount())
                 .likeCount(post.getLikeCount())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
+                .commentCount(post.getCommentCount())
                 .files(post.getFiles().stream()
                         .map(PostFileDto::from)
                         .collect(Collectors.toList()))
@@ -50,6 +66,19 @@ public class PostResponse {
                 .build();
     }
 
+    /**
+     * 요청자 기준 응답 생성 (isAuthor만 다시 계산)
+     * - 캐시된 응답을 여러 사용자가 공유할 수 있도록 원본은 변경하지 않음
+     */
+    public PostResponse forViewer(Long currentUserId) {
+        return this.toBuilder()
+                .isAuthor(currentUserId != null && currentUserId.equals(authorId))
+                .comments(comments == null ? null : comments.stream()
+                        .map(comment -> comment.forViewer(currentUserId))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
     @Getter
     @Builder
     public static class PostFileDto {
@@ -2,6 +2,7 @@ package org.board.board_be.web.exception;
 
 import lombok.extern.slf4j.Slf4j;
 import org.board.board_be.web.dto.ApiResult;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -105,6 +106,38 @@ public class GlobalExceptionHandler {
         return createErrorResponse(HttpStatus.BAD_REQUEST, error);
     }
 
+    /**
+     * 429 Too Many Requests (사용자별 속도 제한 초과)
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiResult<ErrorResponse>> handleRateLimitExceededException(RateLimitExceededException ex) {
+        ErrorResponse error = ErrorResponse.of("TOO_MANY_REQUESTS", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResult.<ErrorResponse>builder()
+                        .success(false)
+                        .data(error)
+                        .build()
+                );
+    }
+
+    /**
+     * 503 Service Unavailable (전용 작업 풀 포화 - 비밀번호 해시 등)
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResult<ErrorResponse>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        ErrorResponse error = ErrorResponse.of("SERVICE_UNAVAILABLE", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResult.<ErrorResponse>builder()
+                        .success(false)
+                        .data(error)
+                        .build()
+                );
+    }
+
     /**
      * 500 Internal Server Error (그 외 모든 예외)
      */
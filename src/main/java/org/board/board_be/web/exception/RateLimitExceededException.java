@@ -0,0 +1,15 @@
+package org.board.board_be.web.exception;
+
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(String.format("요청이 너무 많습니다. %d초 후 다시 시도해주세요.", retryAfterSeconds));
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,7 @@
+package org.board.board_be.web.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,220 @@
+package org.board.board_be.web.file;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.board.board_be.service.FileStorageService;
+import org.board.board_be.service.cache.FileMetadataCache;
+import org.board.board_be.service.cache.FileMetadataCache.FileMetadata;
+import org.board.board_be.service.image.ImageVariant;
+import org.board.board_be.service.image.ImageVariantService;
+import org.board.board_be.web.exception.ResourceNotFoundException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 첨부 파일 전송
+ * - 메타데이터는 FileMetadataCache에서 조회 (요청마다 stat/MIME 조회 없음)
+ * - If-None-Match / If-Modified-Since → 304
+ * - 단일 Range 요청 → 206 (여러 구간 요청은 전체 응답으로 처리), 범위 밖이면 416
+ * - 본문은 Tomcat sendfile로 커널에서 바로 전송, 지원하지 않으면 FileChannel.transferTo
+ * - 이미지 변형(variant)이 아직 없으면 원본을 보내고(캐시 금지) 생성을 요청
+ */
+@Component
+@RequiredArgsConstructor
+public class FileDownloadHandler {
+
+    // Tomcat DefaultServlet 기본값과 동일, 작은 파일은 sendfile 설정 비용이 더 큼
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final FileMetadataCache fileMetadataCache;
+    private final ImageVariantService imageVariantService;
+
+    public void handle(String fileName, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        handle(fileName, null, request, response);
+    }
+
+    public void handle(String fileName, ImageVariant variant,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // 원본이 없으면 변형 생성을 요청하지 않고 404 (임의의 파일명으로 작업 큐를 채우지 못하게)
+        FileMetadata metadata = fileMetadataCache.get(fileName);
+        if (metadata == null) {
+            throw new ResourceNotFoundException("파일을 찾을 수 없습니다: " + fileName);
+        }
+        boolean fallback = false;
+        if (variant != null) {
+            String variantFileName = ImageVariantService.variantFileName(fileName, variant);
+            if (variantFileName != null) {
+                FileMetadata variantMetadata = fileMetadataCache.get(variantFileName);
+                if (variantMetadata != null) {
+                    metadata = variantMetadata;
+                } else {
+                    // 아직 생성 전이거나 작업이 버려진 경우 (요청 스레드에서는 디코딩하지 않음)
+                    imageVariantService.submit(fileName);
+                    fallback = true;
+                }
+            }
+        }
+
+        // 조건부 요청: 304 (ETag, Last-Modified 헤더도 함께 설정됨)
+        if (new ServletWebRequest(request, response).checkNotModified(metadata.etag(), metadata.lastModified())) {
+            return;
+        }
+
+        long size = metadata.size();
+        long start = 0;
+        long end = size - 1;
+
+        HttpRange range = singleRange(request, metadata);
+        if (range != null) {
+            start = range.getRangeStart(size);
+            end = range.getRangeEnd(size);
+            if (start >= size || start > end) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return;
+            }
+        }
+
+        long length = end - start + 1;
+        boolean body = !"HEAD".equals(request.getMethod()) && length > 0;
+        // sendfile은 캐시된 경로를 그대로 넘김 (요청마다 stat 하지 않음)
+        // 이동/삭제 시 캐시를 비우므로, 그 사이에 들어온 요청만 Tomcat이 여는 시점에 실패(연결 종료)
+        boolean sendfile = body && length >= SENDFILE_THRESHOLD
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT));
+        // 파일을 먼저 열어 둠: 없으면 캐싱/범위 헤더를 쓰기 전에 404
+        FileChannel channel = body && !sendfile ? open(fileName, metadata, response) : null;
+
+        response.setContentType(metadata.contentType().toString());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // 내용 주소 기반 파일(과 그 변형)은 이름이 곧 내용이므로 immutable
+        CacheControl cacheControl = CacheControl.maxAge(365, TimeUnit.DAYS);
+        if (fallback) {
+            cacheControl = CacheControl.noCache();
+        } else if (FileStorageService.contentHashOf(fileName) != null) {
+            cacheControl = cacheControl.immutable();
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        // 이미지는 인라인 표시, 다운로드 아님
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                .filename(fileName, StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        if (range != null) {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+        response.setContentLengthLong(length);
+
+        if (sendfile) {
+            // 응답 본문은 서블릿 반환 후 Tomcat이 sendfile(2)로 전송
+            request.setAttribute(SENDFILE_FILENAME, metadata.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        if (channel == null) {
+            return;
+        }
+
+        try (channel) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    /**
+     * 캐시된 경로로 파일을 열고, 없으면 캐시를 다시 조회해 한 번 더 시도
+     * - 끝내 없으면 304 검사에서 설정된 ETag/Last-Modified를 지우고 404
+     */
+    private FileChannel open(String fileName, FileMetadata metadata, HttpServletResponse response)
+            throws IOException {
+        try {
+            return FileChannel.open(metadata.path(), StandardOpenOption.READ);
+        } catch (NoSuchFileException ex) {
+            try {
+                return FileChannel.open(reload(fileName, metadata).path(), StandardOpenOption.READ);
+            } catch (ResourceNotFoundException | NoSuchFileException notFound) {
+                response.reset();
+                throw new ResourceNotFoundException("파일을 찾을 수 없습니다: " + fileName);
+            }
+        }
+    }
+
+    /**
+     * 캐시 이후 이동(디렉토리 분할)되었거나 삭제된 파일 → 캐시를 비우고 한 번 다시 조회
+     * - 크기가 다르면 이미 계산한 Content-Length/Range와 맞지 않으므로 없는 파일로 처리
+     */
+    private FileMetadata reload(String fileName, FileMetadata metadata) {
+        String storedName = metadata.path().getFileName().toString();
+        fileMetadataCache.invalidate(storedName);
+        FileMetadata reloaded = fileMetadataCache.get(storedName);
+        if (reloaded == null || reloaded.size() != metadata.size()) {
+            throw new ResourceNotFoundException("파일을 찾을 수 없습니다: " + fileName);
+        }
+        return reloaded;
+    }
+
+    /**
+     * 적용할 단일 Range, 없거나 적용하지 않으면 null
+     * - If-Range가 현재 ETag/수정 시각과 다르면 전체 응답
+     */
+    private HttpRange singleRange(HttpServletRequest request, FileMetadata metadata) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null || metadata.size() == 0 || !ifRangeMatches(request, metadata)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException ex) {
+            // 잘못된 Range 헤더는 무시
+            return null;
+        }
+    }
+
+    private boolean ifRangeMatches(HttpServletRequest request, FileMetadata metadata) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // 강한 비교: 약한 ETag는 일치하지 않는 것으로 처리
+            return ifRange.equals(metadata.etag());
+        }
+        try {
+            long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return date >= metadata.lastModified() / 1000 * 1000;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.board.board_be.web.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.board.board_be.web.dto.ApiResult;
+import org.board.board_be.web.exception.ErrorResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가상 스레드 모드 전용 DB 동시성 제한 필터
+ * - 가상 스레드는 요청 수만큼 무제한 생성되므로, 커넥션 풀 크기만큼만 API 요청을 동시에 처리
+ * - 나머지 요청은 Semaphore에서 대기 (가상 스레드는 캐리어 스레드를 점유하지 않고 park)
+ * - 대기 시간이 acquire-timeout을 넘으면 503 반환 → Hikari 대기열이 무한히 쌓이지 않음
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class DbConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    // DB를 사용하지 않는 경로
+    private static final List<String> EXCLUDED_PREFIXES = List.of(
+            "/actuator", "/ping", "/swagger-ui", "/v3/api-docs", "/uploads/", "/boards/files/");
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    public DbConcurrencyLimitFilter(ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${board.virtual-threads.db-permits:${spring.datasource.hikari.maximum-pool-size:10}}") int dbPermits,
+                                    @Value("${board.virtual-threads.acquire-timeout:2s}") Duration acquireTimeout) {
+        this.permits = new Semaphore(dbPermits, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("board.db.admission.available", permits, Semaphore::availablePermits)
+                .description("DB 동시성 제한 필터의 남은 허용 수")
+                .register(meterRegistry);
+        Gauge.builder("board.db.admission.waiting", permits, Semaphore::getQueueLength)
+                .description("DB 동시성 제한 필터에서 대기 중인 요청 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("board.db.admission.rejected")
+                .description("대기 시간 초과로 거절된 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return EXCLUDED_PREFIXES.stream().anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejected.increment();
+            writeUnavailable(response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void writeUnavailable(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Retry-After", "1");
+        objectMapper.writeValue(response.getOutputStream(), ApiResult.<ErrorResponse>builder()
+                .success(false)
+                .data(ErrorResponse.of("SERVICE_UNAVAILABLE", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"))
+                .build());
+    }
+}
@@ -0,0 +1,144 @@
+package org.board.board_be.web.interceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.board.board_be.config.datasource.SqlFingerprint;
+import org.board.board_be.config.datasource.SqlStatementListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청(컨트롤러 메서드)별 SQL 사용량 집계 + N+1 감지
+ * - 요청 스레드에서 실행된 문장 수 / 읽은 행 수 / SQL 시간을 handler 태그로 기록
+ *   (board.sql.statements, board.sql.rows, board.sql.time - 히스토그램 포함)
+ * - 한 요청에서 같은 모양의 문장이 threshold 번을 넘으면 N+1로 판단
+ *   mode=log: 경고 로그 + board.sql.n_plus_one 증가 / fail: 예외로 요청 실패 (테스트용) / off
+ * - 요청 밖(스케줄러, 비동기 작업)의 문장은 집계하지 않음
+ */
+@Slf4j
+@Component
+public class SqlAccountingInterceptor implements HandlerInterceptor, SqlStatementListener {
+
+    private enum Mode { OFF, LOG, FAIL }
+
+    private final ThreadLocal<RequestStats> current = new ThreadLocal<>();
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Mode mode;
+    private final int threshold;
+
+    public SqlAccountingInterceptor(MeterRegistry meterRegistry,
+                                    @Value("${board.sql.n-plus-one.mode:log}") String mode,
+                                    @Value("${board.sql.n-plus-one.threshold:10}") int threshold) {
+        this.meterRegistry = meterRegistry;
+        this.mode = Mode.valueOf(mode.toUpperCase(Locale.ROOT));
+        this.threshold = threshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            current.set(new RequestStats(method.getBeanType().getSimpleName() + "." + method.getMethod().getName()));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        RequestStats stats = current.get();
+        if (stats == null) {
+            return;
+        }
+        current.remove();
+        Meters handlerMeters = meters.computeIfAbsent(stats.handler, this::register);
+        handlerMeters.statements.record(stats.statements);
+        handlerMeters.rows.record(stats.rows);
+        handlerMeters.time.record(stats.nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void afterExecute(String sql, long elapsedNanos) {
+        RequestStats stats = current.get();
+        if (stats == null) {
+            return;
+        }
+        stats.statements++;
+        stats.nanos += elapsedNanos;
+        if (mode == Mode.OFF) {
+            return;
+        }
+        String fingerprint = SqlFingerprint.of(sql);
+        int count = stats.shapes.merge(fingerprint, 1, Integer::sum);
+        if (count == threshold + 1) {
+            meters.computeIfAbsent(stats.handler, this::register).nPlusOne.increment();
+            String message = "N+1 의심: " + stats.handler + " 에서 같은 SQL을 " + threshold + "번 넘게 실행 - " + fingerprint;
+            if (mode == Mode.FAIL) {
+                throw new IllegalStateException(message);
+            }
+            log.warn(message);
+        }
+    }
+
+    @Override
+    public void afterFetch(String sql, long rows) {
+        RequestStats stats = current.get();
+        if (stats != null) {
+            stats.rows += rows;
+        }
+    }
+
+    private Meters register(String handler) {
+        return new Meters(
+                DistributionSummary.builder("board.sql.statements")
+                        .description("요청당 실행한 SQL 문장 수")
+                        .tag("handler", handler)
+                        .publishPercentileHistogram()
+                        .maximumExpectedValue(200.0)
+                        .register(meterRegistry),
+                DistributionSummary.builder("board.sql.rows")
+                        .description("요청당 읽은 행 수")
+                        .tag("handler", handler)
+                        .publishPercentileHistogram()
+                        .maximumExpectedValue(10_000.0)
+                        .register(meterRegistry),
+                Timer.builder("board.sql.time")
+                        .description("요청당 SQL 실행 시간 합계")
+                        .tag("handler", handler)
+                        .publishPercentileHistogram()
+                        .maximumExpectedValue(Duration.ofSeconds(10))
+                        .register(meterRegistry),
+                Counter.builder("board.sql.n_plus_one")
+                        .tag("handler", handler)
+                        .register(meterRegistry));
+    }
+
+    private record Meters(DistributionSummary statements, DistributionSummary rows, Timer time, Counter nPlusOne) {
+    }
+
+    private static final class RequestStats {
+        private final String handler;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int statements;
+        private long rows;
+        private long nanos;
+
+        private RequestStats(String handler) {
+            this.handler = handler;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.board.board_be.web.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.board.board_be.web.dto.ApiResult;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 미리 직렬화한 JSON 응답 본문
+ * - 캐시에 넣어 두면 같은 요청은 Jackson을 거치지 않고 바이트를 그대로 씀 (ByteArrayHttpMessageConverter)
+ * - gzip 본문은 처음 요청될 때 한 번만 압축해 보관, 작은 본문은 압축하지 않음
+ */
+public final class SerializedJson {
+
+    // 이보다 작으면 압축 이득보다 헤더/CPU 비용이 큼
+    static final int GZIP_MIN_SIZE = 1024;
+
+    private final byte[] json;
+    private volatile byte[] gzip;
+
+    private SerializedJson(byte[] json) {
+        this.json = json;
+    }
+
+    /**
+     * ApiResult{success=true, data} 로 감싸 직렬화
+     */
+    public static SerializedJson success(ObjectMapper objectMapper, Object data) {
+        try {
+            return new SerializedJson(objectMapper.writeValueAsBytes(ApiResult.builder()
+                    .success(true)
+                    .data(data)
+                    .build()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("응답을 직렬화할 수 없습니다.", ex);
+        }
+    }
+
+    public byte[] json() {
+        return json;
+    }
+
+    /**
+     * @return gzip 본문, 압축 대상이 아니면 null
+     */
+    public byte[] gzip() {
+        if (json.length < GZIP_MIN_SIZE) {
+            return null;
+        }
+        byte[] compressed = gzip;
+        if (compressed == null) {
+            // 동시에 여러 번 압축되어도 결과가 같으므로 잠그지 않음
+            compressed = compress(json);
+            gzip = compressed;
+        }
+        return compressed;
+    }
+
+    /**
+     * Accept-Encoding에 따라 gzip 또는 원본 바이트로 응답
+     */
+    public ResponseEntity<byte[]> toResponse(String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        byte[] compressed = acceptsGzip(acceptEncoding) ? gzip() : null;
+        if (compressed != null) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(compressed);
+        }
+        return builder.body(json);
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (!coding.equals("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        refused = Double.parseDouble(param.substring(2)) <= 0;
+                    } catch (NumberFormatException ex) {
+                        refused = true;
+                    }
+                }
+            }
+            return !refused;
+        }
+        return false;
+    }
+
+    private static byte[] compress(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,105 @@
+package org.board.board_be.web.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.board.board_be.web.exception.RateLimitExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @RateLimited 핸들러의 사용자별 속도 제한
+ * - 키는 userId 요청 파라미터 (없거나 숫자가 아니면 제한하지 않음 - 이후 검증에서 400)
+ * - 초과하면 RateLimitExceededException → GlobalExceptionHandler가 429 + Retry-After
+ * - 버킷이 가득 찬 키는 evict-interval-ms 마다 정리
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String USER_ID = "userId";
+
+    private final Map<String, Group> groups = new ConcurrentHashMap<>();
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int stripes;
+
+    public RateLimitInterceptor(Environment environment,
+                                MeterRegistry meterRegistry,
+                                @Value("${board.rate-limit.enabled:true}") boolean enabled,
+                                @Value("${board.rate-limit.stripes:16}") int stripes) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.stripes = stripes;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        RateLimited rateLimited = method.getMethodAnnotation(RateLimited.class);
+        if (rateLimited == null) {
+            return true;
+        }
+        Long userId = parseUserId(request.getParameter(USER_ID));
+        if (userId == null) {
+            return true;
+        }
+
+        Group group = groups.computeIfAbsent(rateLimited.value(), this::createGroup);
+        long waitNanos = group.limiter.tryAcquire(userId, System.nanoTime());
+        if (waitNanos > 0) {
+            group.rejected.increment();
+            // 다음 토큰까지 남은 시간 (초 단위 올림)
+            throw new RateLimitExceededException(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${board.rate-limit.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        groups.values().forEach(group -> group.limiter.evictIdle(now));
+    }
+
+    private Group createGroup(String name) {
+        String prefix = "board.rate-limit." + name + ".";
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(
+                environment.getProperty(prefix + "permits-per-minute", Integer.class, 30),
+                environment.getProperty(prefix + "burst", Integer.class, 10),
+                stripes);
+        Gauge.builder("board.rate_limit.keys", limiter, TokenBucketRateLimiter::size)
+                .tag("group", name)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("board.rate_limit.rejected")
+                .tag("group", name)
+                .register(meterRegistry);
+        return new Group(limiter, rejected);
+    }
+
+    private static Long parseUserId(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private record Group(TokenBucketRateLimiter limiter, Counter rejected) {
+    }
+}
@@ -0,0 +1,20 @@
+package org.board.board_be.web.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 사용자(userId 파라미터)별 요청 속도 제한 대상 핸들러
+ * - 같은 group의 핸들러는 하나의 버킷을 공유 (예: 게시글 작성/수정/삭제)
+ * - 속도는 board.rate-limit.{group}.permits-per-minute / burst 로 설정
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    String value();
+}
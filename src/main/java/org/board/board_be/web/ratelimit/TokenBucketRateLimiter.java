@@ -0,0 +1,90 @@
+package org.board.board_be.web.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토큰 버킷 (GCRA 방식)
+ * - 키마다 "다음 토큰이 차는 이론상 시각(TAT)" 하나만 AtomicLong으로 보관, CAS로 갱신 (잠금 없음)
+ * - 허용: max(TAT, now) + interval 이 now + burst 구간 이내
+ * - 키 공간은 stripe 개의 맵으로 나눠 경합과 유휴 키 정리 범위를 분산
+ * - 버킷이 가득 찬(TAT가 지난) 키는 새 키와 상태가 같으므로 정리해도 동작이 바뀌지 않음
+ */
+public class TokenBucketRateLimiter {
+
+    private final ConcurrentMap<Long, AtomicLong>[] stripes;
+    private final int mask;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+
+    /**
+     * @param permitsPerMinute 지속 가능한 분당 요청 수
+     * @param burst            한 번에 몰아서 허용하는 요청 수
+     * @param stripes          2의 거듭제곱으로 올림
+     */
+    @SuppressWarnings("unchecked")
+    public TokenBucketRateLimiter(int permitsPerMinute, int burst, int stripes) {
+        if (permitsPerMinute < 1 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerMinute와 burst는 1 이상이어야 합니다.");
+        }
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new ConcurrentMap[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.mask = size - 1;
+        this.intervalNanos = 60_000_000_000L / permitsPerMinute;
+        this.toleranceNanos = intervalNanos * (burst - 1);
+    }
+
+    /**
+     * @return 0이면 허용, 아니면 다시 시도할 수 있을 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(long key, long nowNanos) {
+        ConcurrentMap<Long, AtomicLong> stripe = stripe(key);
+        AtomicLong tat = stripe.get(key);
+        if (tat == null) {
+            tat = stripe.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+        }
+        while (true) {
+            long current = tat.get();
+            long start = Math.max(current, nowNanos);
+            long wait = start - nowNanos - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, start + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 키 제거
+     * - 제거와 동시에 들어온 요청은 버려진 상태를 갱신할 수 있음 (토큰 한 개 소비가 누락되는 정도)
+     * @return 제거한 키 수
+     */
+    public int evictIdle(long nowNanos) {
+        int removed = 0;
+        for (ConcurrentMap<Long, AtomicLong> stripe : stripes) {
+            int before = stripe.size();
+            stripe.values().removeIf(tat -> tat.get() <= nowNanos);
+            removed += before - stripe.size();
+        }
+        return removed;
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentMap<Long, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private ConcurrentMap<Long, AtomicLong> stripe(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (h ^ (h >>> 32)) & mask];
+    }
+}
@@ -0,0 +1,9 @@
+-- 비밀번호 해시 비용(BCrypt cost) 기록
+-- 0 = 평문으로 저장된 이전 계정 (다음 로그인 때 BCrypt로 교체)
+-- 설정된 cost보다 낮으면 다음 로그인 때 다시 해시
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS password_cost SMALLINT NOT NULL DEFAULT 0;
+
+UPDATE users
+SET password_cost = substring(password FROM 5 FOR 2)::SMALLINT
+WHERE password ~ '^\$2[aby]\$[0-9]{2}\$' AND password_cost = 0;
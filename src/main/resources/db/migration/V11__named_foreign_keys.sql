@@ -0,0 +1,32 @@
+-- 참조 무결성 제약에 고정된 이름 부여
+-- - 애플리케이션은 FK 위반(SQLState 23503)을 제약 이름으로 구분해 "게시글/사용자/부모 댓글 없음"으로 변환
+--   (V1의 이름 없는 REFERENCES, Hibernate ddl-auto가 만든 fk_xxx 등 DB마다 이름이 다르므로 다시 만듦)
+-- - 새 제약은 NOT VALID로 추가해 기존 행을 검사하지 않고 바로 커밋 (테이블 락은 짧게만 잡음)
+--   기존 행 검증은 V12가 별도 트랜잭션에서 수행
+
+DO $$
+DECLARE
+    fk       RECORD;
+    existing TEXT;
+BEGIN
+    FOR fk IN SELECT * FROM (VALUES
+            ('posts',    'author_id', 'users',    'fk_posts_author'),
+            ('comments', 'post_id',   'posts',    'fk_comments_post'),
+            ('comments', 'author_id', 'users',    'fk_comments_author'),
+            ('comments', 'parent_id', 'comments', 'fk_comments_parent'))
+            AS t(tbl, col, ref, constraint_name) LOOP
+        FOR existing IN
+            SELECT c.conname
+            FROM pg_constraint c
+                     JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+            WHERE c.contype = 'f'
+              AND c.conrelid = fk.tbl::regclass
+              AND a.attname = fk.col
+              AND array_length(c.conkey, 1) = 1
+        LOOP
+            EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', fk.tbl, existing);
+        END LOOP;
+        EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I FOREIGN KEY (%I) REFERENCES %I(id) NOT VALID',
+                       fk.tbl, fk.constraint_name, fk.col, fk.ref);
+    END LOOP;
+END $$;
@@ -0,0 +1,8 @@
+-- V11에서 NOT VALID로 추가한 참조 무결성 제약 검증
+-- - V11과 다른 마이그레이션(다른 트랜잭션)이므로 V11의 락은 이미 풀린 상태
+-- - VALIDATE CONSTRAINT는 SHARE UPDATE EXCLUSIVE 락만 잡음 → 기존 행을 검사하는 동안에도 INSERT/UPDATE/DELETE 가능
+
+ALTER TABLE posts VALIDATE CONSTRAINT fk_posts_author;
+ALTER TABLE comments VALIDATE CONSTRAINT fk_comments_post;
+ALTER TABLE comments VALIDATE CONSTRAINT fk_comments_author;
+ALTER TABLE comments VALIDATE CONSTRAINT fk_comments_parent;
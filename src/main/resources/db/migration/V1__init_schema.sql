@@ -0,0 +1,54 @@
+-- 초기 스키마 (docs/02-database-schema.md 2장)
+-- Flyway 도입 전에 Hibernate ddl-auto로 만들어진 DB는 baseline-on-migrate로 이 버전을 건너뛰고 V2부터 적용
+
+CREATE TABLE IF NOT EXISTS users (
+    id          BIGSERIAL PRIMARY KEY,
+    username    VARCHAR(50)  NOT NULL UNIQUE,
+    password    VARCHAR(255) NOT NULL,
+    nickname    VARCHAR(50)  NOT NULL,
+    role        VARCHAR(20)  NOT NULL DEFAULT 'USER',
+    created_at  TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    updated_at  TIMESTAMPTZ  NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS posts (
+    id          BIGSERIAL PRIMARY KEY,
+    title       VARCHAR(150) NOT NULL,
+    content     TEXT         NOT NULL,
+    author_id   BIGINT       NOT NULL REFERENCES users(id),
+    view_count  BIGINT       NOT NULL DEFAULT 0,
+    like_count  BIGINT       NOT NULL DEFAULT 0,
+    is_deleted  BOOLEAN      NOT NULL DEFAULT FALSE,
+    created_at  TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    updated_at  TIMESTAMPTZ  NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_posts_created_at ON posts(created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_posts_title ON posts(title);
+CREATE INDEX IF NOT EXISTS idx_posts_author_id ON posts(author_id);
+CREATE INDEX IF NOT EXISTS idx_posts_is_deleted ON posts(is_deleted) WHERE is_deleted = FALSE;
+
+CREATE TABLE IF NOT EXISTS comments (
+    id          BIGSERIAL PRIMARY KEY,
+    post_id     BIGINT        NOT NULL REFERENCES posts(id),
+    author_id   BIGINT        NOT NULL REFERENCES users(id),
+    content     VARCHAR(1000) NOT NULL,
+    parent_id   BIGINT        NULL REFERENCES comments(id),
+    is_deleted  BOOLEAN       NOT NULL DEFAULT FALSE,
+    created_at  TIMESTAMPTZ   NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_comments_post_id_created_at ON comments(post_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_comments_parent_id ON comments(parent_id);
+
+CREATE TABLE IF NOT EXISTS post_files (
+    id            BIGSERIAL PRIMARY KEY,
+    post_id       BIGINT       NOT NULL REFERENCES posts(id) ON DELETE CASCADE,
+    file_url      TEXT         NOT NULL,
+    original_name VARCHAR(255) NOT NULL,
+    file_size     BIGINT       NOT NULL,
+    mime_type     VARCHAR(50)  NOT NULL,
+    created_at    TIMESTAMPTZ  NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_post_files_post_id ON post_files(post_id);
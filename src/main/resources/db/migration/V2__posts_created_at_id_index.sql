@@ -0,0 +1,6 @@
+-- 커서 페이징용 인덱스 재생성
+-- (created_at DESC, id DESC) 순서로 seek 하므로 동일 시각 게시글의 tie-breaker로 id를 포함
+-- 운영 반영 시에는 트랜잭션 밖에서 CONCURRENTLY로 실행 권장
+
+DROP INDEX IF EXISTS idx_posts_created_at;
+CREATE INDEX idx_posts_created_at ON posts(created_at DESC, id DESC);
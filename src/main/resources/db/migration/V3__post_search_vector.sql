@@ -0,0 +1,11 @@
+-- 게시글 전문 검색 색인
+-- search_vector: NgramTokenizer(bigram) 토큰을 'simple' 설정으로 변환한 tsvector
+--   제목 = 가중치 A, 본문 = 가중치 B
+-- 기존 게시글 색인은 애플리케이션 기동 시 PostSearchService가 배치로 채움
+
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE INDEX IF NOT EXISTS idx_posts_search_vector ON posts USING GIN (search_vector);
+
+-- LIKE '%kw%' 검색용 인덱스는 더 이상 사용하지 않음
+DROP INDEX IF EXISTS idx_posts_title;
@@ -0,0 +1,14 @@
+-- 게시글 댓글 수 비정규화
+-- 목록 조회에서 comments LEFT JOIN + GROUP BY 를 제거하기 위한 컬럼
+
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS comment_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE posts p
+SET comment_count = sub.cnt
+FROM (
+    SELECT c.post_id, COUNT(*) AS cnt
+    FROM comments c
+    WHERE c.is_deleted = false
+    GROUP BY c.post_id
+) sub
+WHERE p.id = sub.post_id;
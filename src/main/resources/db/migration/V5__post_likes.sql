@@ -0,0 +1,11 @@
+-- 게시글 좋아요
+-- posts.like_count는 LikeService가 메모리에서 모은 증감량을 배치로 반영
+
+CREATE TABLE IF NOT EXISTS post_likes (
+    post_id    BIGINT      NOT NULL REFERENCES posts(id) ON DELETE CASCADE,
+    user_id    BIGINT      NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (post_id, user_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_post_likes_user_id ON post_likes(user_id);
@@ -0,0 +1,16 @@
+-- 내용 주소 기반 첨부 파일 저장소
+-- storage_key = SHA-256(hex) + 확장자, 같은 내용은 디스크에 한 번만 저장하고 참조 수로 관리
+-- 기존 업로드(UUID 파일명)는 post_files.storage_key가 NULL로 남음
+
+CREATE TABLE IF NOT EXISTS stored_files (
+    storage_key VARCHAR(80) PRIMARY KEY,
+    file_size   BIGINT      NOT NULL,
+    ref_count   INTEGER     NOT NULL DEFAULT 0,
+    created_at  TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at  TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+-- 참조가 없는 파일 정리용
+CREATE INDEX IF NOT EXISTS idx_stored_files_unreferenced ON stored_files(updated_at) WHERE ref_count = 0;
+
+ALTER TABLE post_files ADD COLUMN IF NOT EXISTS storage_key VARCHAR(80);
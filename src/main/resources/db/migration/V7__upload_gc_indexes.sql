@@ -0,0 +1,7 @@
+-- 업로드 정리 작업(UploadGarbageCollector)용 인덱스
+
+-- 디렉토리 대조: 파일명의 해시(앞 64자)로 stored_files 조회 (이미지 변형 포함)
+CREATE INDEX IF NOT EXISTS idx_stored_files_hash ON stored_files (left(storage_key, 64));
+
+-- 이전 업로드(UUID 파일명)의 참조 여부 조회
+CREATE INDEX IF NOT EXISTS idx_post_files_legacy_url ON post_files (file_url) WHERE storage_key IS NULL;
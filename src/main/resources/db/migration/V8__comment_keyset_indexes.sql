@@ -0,0 +1,9 @@
+-- 댓글 커서 페이징 인덱스
+-- (created_at, id) 키셋 seek가 정렬 없이 인덱스 순서대로 읽히도록 id를 포함
+
+DROP INDEX IF EXISTS idx_comments_post_id_created_at;
+CREATE INDEX idx_comments_post_id_created_at ON comments(post_id, created_at, id);
+
+-- 대댓글 페이징 / 미리보기 (기존 parent_id 단일 인덱스 대체)
+CREATE INDEX IF NOT EXISTS idx_comments_parent_id_created_at ON comments(parent_id, created_at, id);
+DROP INDEX IF EXISTS idx_comments_parent_id;
@@ -0,0 +1,29 @@
+-- ID 생성 방식 변경: IDENTITY → 시퀀스 pooled 할당 (allocationSize = 50)
+-- - Hibernate가 nextval 한 번으로 ID 50개를 확보하므로 INSERT를 JDBC 배치로 묶을 수 있음
+-- - pooled 옵티마이저는 nextval 값 N에 대해 (N - 49) ~ N 을 사용 → 시퀀스 증가폭을 50으로 맞춤
+-- - setval(max(id)) 이후 첫 nextval = max(id) + 50 → 새 ID는 기존 최대값 다음부터 (빈 테이블은 1부터)
+-- - 컬럼 기본값(nextval)은 제거: 애플리케이션 밖에서 기본값으로 INSERT하면 Hibernate가 확보한 구간과 겹칠 수 있음
+-- - V1(BIGSERIAL)로 만든 DB와 Hibernate ddl-auto(GENERATED BY DEFAULT AS IDENTITY)로 만든 DB를 모두 처리
+--   (identity 컬럼은 시퀀스를 직접 바꿀 수 없으므로 identity를 제거하고 같은 이름의 시퀀스를 새로 만듦)
+-- 롤백: 증가폭을 1로 되돌리고 기본값을 nextval('<table>_id_seq')로 복원
+
+DO $$
+DECLARE
+    t   TEXT;
+    seq TEXT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['users', 'posts', 'post_files', 'comments'] LOOP
+        seq := t || '_id_seq';
+        IF EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = current_schema() AND table_name = t
+                     AND column_name = 'id' AND is_identity = 'YES') THEN
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY', t);
+        ELSE
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP DEFAULT', t);
+        END IF;
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I', seq);
+        EXECUTE format('ALTER SEQUENCE %I INCREMENT BY 50 OWNED BY %I.id', seq, t);
+        EXECUTE format('SELECT setval(%L, GREATEST(COALESCE(MAX(id), 0), 1), COALESCE(MAX(id), 0) > 0) FROM %I',
+                       seq, t);
+    END LOOP;
+END $$;
@@ -0,0 +1,129 @@
+package org.board.board_be.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+
+    @Test
+    void 접속에_실패한_레플리카는_제외하고_다음_레플리카로_넘어간다() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        HikariDataSource down = replica("replica-1");
+        when(down.getConnection()).thenThrow(new SQLTransientConnectionException("timeout"));
+        HikariDataSource up = replica("replica-2");
+        Connection replicaConnection = mock(Connection.class);
+        when(up.getConnection()).thenReturn(replicaConnection);
+
+        ReplicaRoutingDataSource routing = routing(List.of(down, up));
+
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+        assertThat(routing.replicas().get(0).healthy()).isFalse();
+        assertThat(routing.replicas().get(1).healthy()).isTrue();
+    }
+
+    @Test
+    void 복제_지연이_허용치를_넘으면_프라이머리로_읽는다() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        HikariDataSource lagging = replica("replica-1");
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(lagging.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(rs);
+        when(rs.next()).thenReturn(true);
+        when(rs.getBoolean(1)).thenReturn(true);
+        when(rs.getLong(2)).thenReturn(5_000L);
+
+        ReplicaRoutingDataSource routing = routing(List.of(lagging));
+        routing.checkReplicas();
+
+        assertThat(routing.replicas().get(0).lagMillis()).isEqualTo(5_000L);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void WAL_수신이_끊긴_레플리카는_받은_WAL을_모두_적용했어도_제외한다() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        HikariDataSource disconnected = replica("replica-1");
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(disconnected.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(rs);
+        when(rs.next()).thenReturn(true);
+        // 수신 중단 직후: 받은 WAL은 모두 적용, 마지막 적용 트랜잭션도 최근
+        when(rs.getBoolean(1)).thenReturn(false);
+        when(rs.getLong(2)).thenReturn(200L);
+
+        ReplicaRoutingDataSource routing = routing(List.of(disconnected));
+        routing.checkReplicas();
+
+        assertThat(routing.replicas().get(0).healthy()).isTrue();
+        assertThat(routing.replicas().get(0).streaming()).isFalse();
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        when(rs.getBoolean(1)).thenReturn(true);
+        when(rs.getLong(2)).thenReturn(0L);
+        routing.checkReplicas();
+
+        assertThat(routing.getConnection()).isSameAs(connection);
+    }
+
+    @Test
+    void 헬스_체크가_성공하면_레플리카가_다시_라우팅_대상이_된다() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        HikariDataSource flaky = replica("replica-1");
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(flaky.getConnection())
+                .thenThrow(new SQLException("connection refused"))
+                .thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(rs);
+        when(rs.next()).thenReturn(true);
+        when(rs.getBoolean(1)).thenReturn(true);
+        when(rs.getLong(2)).thenReturn(0L);
+
+        ReplicaRoutingDataSource routing = routing(List.of(flaky));
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.replicas().get(0).healthy()).isFalse();
+
+        routing.checkReplicas();
+
+        assertThat(routing.replicas().get(0).healthy()).isTrue();
+        assertThat(routing.getConnection()).isSameAs(connection);
+    }
+
+    private ReplicaRoutingDataSource routing(List<HikariDataSource> replicas) {
+        return new ReplicaRoutingDataSource(primary, replicas, Duration.ofSeconds(1), new SimpleMeterRegistry());
+    }
+
+    private static HikariDataSource replica(String name) {
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        when(dataSource.getPoolName()).thenReturn(name);
+        return dataSource;
+    }
+}
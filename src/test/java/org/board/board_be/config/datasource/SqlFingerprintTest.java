@@ -0,0 +1,23 @@
+package org.board.board_be.config.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlFingerprintTest {
+
+    @Test
+    void 리터럴과_IN_목록_길이가_달라도_같은_모양이다() {
+        assertThat(SqlFingerprint.normalize("select u1_0.id from users u1_0 where u1_0.id in (?, ?, ?)"))
+                .isEqualTo(SqlFingerprint.normalize("select u1_0.id  from users u1_0\n where u1_0.id in (?)"))
+                .isEqualTo("select u1_0.id from users u1_0 where u1_0.id in (?+)");
+        assertThat(SqlFingerprint.normalize("UPDATE posts SET view_count = view_count + 12 WHERE title = 'it''s'"))
+                .isEqualTo("UPDATE posts SET view_count = view_count + ? WHERE title = ?");
+    }
+
+    @Test
+    void 다중_행_VALUES는_하나로_접는다() {
+        assertThat(SqlFingerprint.normalize("insert into t (a, b) values (?, ?), (?, ?), (?, ?)"))
+                .isEqualTo("insert into t (a, b) values (?+)+");
+    }
+}
@@ -0,0 +1,64 @@
+package org.board.board_be.domain.post;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.board.board_be.domain.user.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class PostBatchInsertTest {
+
+    private static final int FILES = 10;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void 첨부_파일_10개인_게시글은_테이블마다_한_번의_INSERT로_저장된다() {
+        User author = User.builder()
+                .username("batch_" + System.nanoTime())
+                .password("password")
+                .nickname("배치")
+                .build();
+        entityManager.persist(author);
+        entityManager.flush();
+
+        Post post = Post.builder()
+                .author(author)
+                .title("첨부 10개")
+                .content("배치 INSERT 테스트")
+                .build();
+        for (int i = 0; i < FILES; i++) {
+            post.addFile(PostFile.builder()
+                    .fileUrl("/uploads/batch-" + i + ".jpg")
+                    .originalName("batch-" + i + ".jpg")
+                    .fileSize(1_024L)
+                    .mimeType("image/jpeg")
+                    .build());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // 시퀀스 조회는 persist 시점 (50개 단위라 대부분 메모리에서 할당)
+        entityManager.persist(post);
+        assertThat(post.getId()).isNotNull();
+        assertThat(post.getFiles()).allSatisfy(file -> assertThat(file.getId()).isNotNull());
+
+        statistics.clear();
+        entityManager.flush();
+
+        // IDENTITY였다면 persist 시점에 11번 INSERT, 배치면 flush 때 posts 1 + post_files 1
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + FILES);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
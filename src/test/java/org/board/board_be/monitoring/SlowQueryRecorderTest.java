@@ -0,0 +1,56 @@
+package org.board.board_be.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowQueryRecorderTest {
+
+    private final SlowQueryRecorder recorder = new SlowQueryRecorder(true, Duration.ofMillis(100), 2, 2, 10);
+
+    @Test
+    void 모양별로_히스토그램과_가장_느린_표본만_남긴다() {
+        recorder.afterExecute("select * from posts where id=1", ms(3));
+        recorder.afterExecute("select * from posts where id=2", ms(150));
+        recorder.afterExecute("select * from posts where id=3", ms(400));
+        recorder.afterExecute("select * from posts where id=4", ms(200));
+
+        SlowQueryRecorder.FingerprintSnapshot posts = recorder.snapshot(10).fingerprints().get(0);
+
+        assertThat(posts.fingerprint()).isEqualTo("select * from posts where id=?");
+        assertThat(posts.count()).isEqualTo(4);
+        assertThat(posts.maxMs()).isEqualTo(400);
+        assertThat(posts.histogram()).containsEntry("le_5ms", 1L).containsEntry("le_250ms", 2L).containsEntry("le_500ms", 1L);
+        assertThat(posts.slowest()).extracting(SlowQueryRecorder.SlowQuery::elapsedMs).containsExactly(400L, 200L);
+    }
+
+    @Test
+    void 느린_쿼리_표본에는_리터럴_대신_모양만_남긴다() {
+        recorder.afterExecute("select * from users where password='secret' and id=42", ms(300));
+
+        SlowQueryRecorder.FingerprintSnapshot users = recorder.snapshot(10).fingerprints().get(0);
+
+        assertThat(users.slowest()).singleElement()
+                .extracting(SlowQueryRecorder.SlowQuery::fingerprint)
+                .isEqualTo("select * from users where password=? and id=?");
+    }
+
+    @Test
+    void 모양_수_상한을_넘으면_새_모양은_버린다() {
+        recorder.afterExecute("select 1 from a", ms(1));
+        recorder.afterExecute("select 1 from b", ms(1));
+        recorder.afterExecute("select 1 from c", ms(1));
+
+        SlowQueryRecorder.Snapshot snapshot = recorder.snapshot(10);
+
+        assertThat(snapshot.fingerprintCount()).isEqualTo(2);
+        assertThat(snapshot.droppedStatements()).isEqualTo(1);
+    }
+
+    private static long ms(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -0,0 +1,203 @@
+package org.board.board_be.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.board.board_be.domain.comment.Comment;
+import org.board.board_be.domain.post.Post;
+import org.board.board_be.domain.user.User;
+import org.board.board_be.web.dto.CommentRequest;
+import org.board.board_be.web.dto.CommentResponse;
+import org.board.board_be.web.dto.CursorPageResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class CommentServiceTest {
+
+    // 전체 조회 상한과 같은 수
+    private static final int COMMENTS = CommentService.MAX_FULL_LIST_SIZE;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long postId;
+    private Long authorId;
+    private int rootCount;
+
+    @BeforeEach
+    void setUp() {
+        User author = User.builder()
+                .username("tree_" + System.nanoTime())
+                .password("password")
+                .nickname("트리")
+                .build();
+        entityManager.persist(author);
+
+        Post post = Post.builder()
+                .author(author)
+                .title("댓글 트리")
+                .content("댓글 트리 테스트")
+                .build();
+        entityManager.persist(post);
+
+        // 4개 중 1개는 최상위 댓글, 나머지 3개는 직전 최상위 댓글의 대댓글
+        Comment root = null;
+        for (int i = 0; i < COMMENTS; i++) {
+            Comment.CommentBuilder builder = Comment.builder()
+                    .post(post)
+                    .author(author)
+                    .content("comment " + i);
+            if (i % 4 != 0) {
+                builder.parent(root);
+            }
+            Comment comment = builder.build();
+            entityManager.persist(comment);
+            if (i % 4 == 0) {
+                root = comment;
+                rootCount++;
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        postId = post.getId();
+        authorId = author.getId();
+    }
+
+    @Test
+    void 댓글_트리는_댓글과_작성자를_한_번의_쿼리로_읽는다() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<CommentResponse> tree = commentService.listTree(postId, null);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(tree).hasSize(rootCount);
+        assertThat(tree).allSatisfy(root -> assertThat(root.getReplies()).hasSize(3));
+        assertThat(tree.get(0).getReplies().get(0).getParentId()).isEqualTo(tree.get(0).getId());
+    }
+
+    @Test
+    void 전체_조회는_상한을_넘으면_일부만_주지_않고_거절한다() {
+        commentService.create(postId, authorId, request("over the limit", null));
+
+        assertThatThrownBy(() -> commentService.listTree(postId, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cursor");
+    }
+
+    @Test
+    void 커서_페이징은_대댓글_미리보기까지_페이지마다_세_번의_쿼리로_읽는다() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        int roots = 0;
+        String cursor = null;
+        do {
+            statistics.clear();
+            CursorPageResponse<CommentResponse> page = commentService.listByCursor(postId, cursor, 100, null);
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+            assertThat(page.getContent()).allSatisfy(root -> {
+                assertThat(root.getParentId()).isNull();
+                assertThat(root.getReplyCount()).isEqualTo(3L);
+                assertThat(root.getReplies()).hasSize(3)
+                        .allSatisfy(reply -> assertThat(reply.getParentId()).isEqualTo(root.getId()));
+            });
+            roots += page.getContent().size();
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(roots).isEqualTo(rootCount);
+    }
+
+    @Test
+    void 댓글_작성은_참조_엔티티를_조회하지_않고_INSERT한다() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // 시퀀스 블록을 미리 할당해 두고 측정
+        Long rootId = commentService.create(postId, authorId, request("warm up", null));
+        long created = 1;
+        // 확보한 구간(nextval 값이 마지막 ID)을 다 썼으면 다음 INSERT가 nextval을 호출하므로 한 번 더
+        if (rootId.equals(jdbcTemplate.queryForObject("SELECT last_value FROM comments_id_seq", Long.class))) {
+            rootId = commentService.create(postId, authorId, request("warm up", null));
+            created++;
+        }
+        entityManager.clear();
+
+        statistics.clear();
+        Long replyId = commentService.create(postId, authorId, request("reply", rootId));
+        created++;
+
+        // 댓글 INSERT + 댓글 수 UPDATE, 게시글/작성자/부모 댓글 SELECT 없음
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        entityManager.clear();
+        Comment reply = entityManager.find(Comment.class, replyId);
+        assertThat(reply.getParent().getId()).isEqualTo(rootId);
+        assertThat(entityManager.find(Post.class, postId).getCommentCount()).isEqualTo(created);
+    }
+
+    @Test
+    void 없는_게시글에_댓글을_쓰면_FK_위반으로_거절한다() {
+        assertThatThrownBy(() -> commentService.create(Long.MAX_VALUE, authorId, request("orphan", null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("게시글을 찾을 수 없습니다");
+    }
+
+    @Test
+    void 없는_사용자로_댓글을_쓰면_FK_위반으로_거절한다() {
+        assertThatThrownBy(() -> commentService.create(postId, Long.MAX_VALUE, request("orphan", null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("사용자를 찾을 수 없습니다");
+    }
+
+    @Test
+    void 없는_부모_댓글에_답글을_쓰면_FK_위반으로_거절한다() {
+        assertThatThrownBy(() -> commentService.create(postId, authorId, request("orphan", Long.MAX_VALUE)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("부모 댓글을 찾을 수 없습니다");
+    }
+
+    @Test
+    void lc_messages가_영어가_아니어도_없는_게시글을_FK_위반으로_거절한다() {
+        // 메시지 번역(NLS)과 OS 로캘이 있는 서버에서만 의미가 있음, 없으면 건너뜀
+        String locale = jdbcTemplate.query("""
+                SELECT collcollate FROM pg_collation
+                WHERE collcollate ~ '^(de_DE|fr_FR|ko_KR|ja_JP)' AND collprovider = 'c'
+                  AND (SELECT rolsuper FROM pg_roles WHERE rolname = current_user)
+                LIMIT 1
+                """, rs -> rs.next() ? rs.getString(1) : null);
+        assumeTrue(locale != null, "영어가 아닌 로캘이 없거나 lc_messages를 바꿀 권한이 없음");
+        jdbcTemplate.execute("SET LOCAL lc_messages = '" + locale + "'");
+
+        assertThatThrownBy(() -> commentService.create(Long.MAX_VALUE, authorId, request("orphan", null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("게시글을 찾을 수 없습니다");
+    }
+
+    private static CommentRequest request(String content, Long parentId) {
+        return new CommentRequest(content, parentId);
+    }
+}
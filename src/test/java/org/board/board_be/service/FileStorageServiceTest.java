@@ -0,0 +1,92 @@
+package org.board.board_be.service;
+
+import org.board.board_be.domain.file.StoredFileRepository;
+import org.board.board_be.domain.post.PostFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class FileStorageServiceTest {
+
+    // sha256("hello")
+    private static final String HELLO_SHA256 = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @TempDir
+    Path uploadDir;
+
+    private StoredFileRepository storedFileRepository;
+    private FileStorageService fileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        storedFileRepository = mock(StoredFileRepository.class);
+        fileStorageService = new FileStorageService(storedFileRepository, TransactionOperations.withoutTransaction(), uploadDir.toString(), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fileStorageService.shutdown();
+    }
+
+    @Test
+    void 같은_내용은_한_번만_저장된다() throws IOException {
+        List<MultipartFile> files = IntStream.range(0, 10)
+                .mapToObj(i -> (MultipartFile) new MockMultipartFile("files", "photo" + i + ".JPG", "image/jpeg",
+                        "hello".getBytes(StandardCharsets.UTF_8)))
+                .toList();
+
+        List<PostFile> stored = fileStorageService.storeAll(files);
+
+        assertThat(stored).hasSize(10);
+        assertThat(stored).extracting(PostFile::getStorageKey).containsOnly(HELLO_SHA256 + ".jpg");
+        assertThat(stored).extracting(PostFile::getOriginalName).containsExactly(
+                IntStream.range(0, 10).mapToObj(i -> "photo" + i + ".JPG").toArray(String[]::new));
+        // 해시 앞 4자리로 분할된 디렉토리에 한 개만 저장
+        try (Stream<Path> entries = Files.walk(uploadDir)) {
+            assertThat(entries.filter(Files::isRegularFile))
+                    .containsExactly(uploadDir.resolve("2c").resolve("f2").resolve(HELLO_SHA256 + ".jpg"));
+        }
+        try (Stream<Path> temps = Files.list(uploadDir.resolve(".tmp"))) {
+            assertThat(temps).isEmpty();
+        }
+    }
+
+    @Test
+    void 참조_등록은_키별로_첨부_수만큼_한_번씩_호출된다() {
+        List<PostFile> files = List.of(
+                PostFile.builder().storageKey("b.png").fileSize(2L).build(),
+                PostFile.builder().storageKey("a.png").fileSize(1L).build(),
+                PostFile.builder().storageKey("b.png").fileSize(2L).build(),
+                PostFile.builder().fileSize(3L).build());
+
+        fileStorageService.acquire(files);
+
+        verify(storedFileRepository).acquire("a.png", 1L, 1);
+        verify(storedFileRepository).acquire("b.png", 2L, 2);
+        verifyNoMoreInteractions(storedFileRepository);
+    }
+
+    @Test
+    void 분할_이전_평면_배치의_파일도_조회된다() throws IOException {
+        Files.writeString(uploadDir.resolve(HELLO_SHA256 + ".jpg"), "hello");
+
+        assertThat(fileStorageService.resolve(HELLO_SHA256 + ".jpg")).isEqualTo(uploadDir.resolve(HELLO_SHA256 + ".jpg"));
+        assertThat(fileStorageService.resolve("ffff.jpg")).isEqualTo(uploadDir.resolve("ff").resolve("ff").resolve("ffff.jpg"));
+        assertThat(fileStorageService.resolve("legacy.jpg")).isEqualTo(uploadDir.resolve("legacy.jpg"));
+    }
+}
@@ -0,0 +1,53 @@
+package org.board.board_be.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForeignKeyViolationTest {
+
+    @Test
+    void 메시지가_영어가_아니어도_서버가_보낸_제약_이름을_쓴다() {
+        // lc_messages=de_DE 서버의 FK 위반 응답 (Hibernate는 영어 문구에서만 제약 이름을 찾음)
+        PSQLException error = serverError("23503", "fk_comments_post",
+                "Einfügen oder Aktualisieren in Tabelle »comments« verletzt Fremdschlüssel-Constraint »fk_comments_post«");
+
+        DataIntegrityViolationException ex = wrap(error);
+
+        assertThat(((ConstraintViolationException) ex.getCause()).getConstraintName()).isNull();
+        assertThat(ForeignKeyViolation.constraintOf(ex)).contains(ForeignKeyViolation.COMMENT_POST);
+    }
+
+    @Test
+    void 배치_INSERT의_다음_예외에서도_제약_이름을_찾는다() {
+        BatchUpdateException batch = new BatchUpdateException("batch entry 0 failed", new int[0]);
+        batch.setNextException(serverError("23503", "FK_POSTS_AUTHOR", "..."));
+
+        assertThat(ForeignKeyViolation.constraintOf(wrap(batch))).contains(ForeignKeyViolation.POST_AUTHOR);
+    }
+
+    @Test
+    void FK_위반이_아니면_비어_있다() {
+        PSQLException unique = serverError("23505", "users_username_key", "duplicate key value");
+
+        assertThat(ForeignKeyViolation.constraintOf(wrap(unique))).isEmpty();
+        assertThat(ForeignKeyViolation.constraintOf(new DataIntegrityViolationException("no cause"))).isEmpty();
+    }
+
+    private static PSQLException serverError(String sqlState, String constraint, String message) {
+        return new PSQLException(new ServerErrorMessage(
+                "SERROR\0VERROR\0C" + sqlState + "\0M" + message + "\0n" + constraint + "\0"));
+    }
+
+    private static DataIntegrityViolationException wrap(SQLException cause) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", cause, null));
+    }
+}
@@ -0,0 +1,135 @@
+package org.board.board_be.service;
+
+import org.board.board_be.domain.post.Post;
+import org.board.board_be.domain.post.PostRepository;
+import org.board.board_be.domain.user.User;
+import org.board.board_be.domain.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class LikeServiceTest {
+
+    private static final int USERS = 1_000;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> userIds;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        String prefix = "like_" + System.nanoTime() + "_";
+        List<User> users = userRepository.saveAll(IntStream.range(0, USERS)
+                .mapToObj(i -> User.builder()
+                        .username(prefix + i)
+                        .password("password")
+                        .nickname("좋아요" + i)
+                        .build())
+                .toList());
+        userIds = users.stream().map(User::getId).toList();
+        postId = postRepository.save(Post.builder()
+                .author(users.get(0))
+                .title("좋아요")
+                .content("동시 좋아요 테스트")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM post_likes WHERE post_id = ?", postId);
+        jdbcTemplate.update("DELETE FROM posts WHERE id = ?", postId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ANY(?)", (Object) userIds.toArray(Long[]::new));
+    }
+
+    @Test
+    void 여러_스레드가_같은_게시글에_좋아요와_취소를_반복해도_행_수와_좋아요_수가_일치한다() throws Exception {
+        // 짝수 사용자: 좋아요 두 번 (중복은 반영되지 않음), 홀수 사용자: 좋아요 → 취소 → 취소
+        run(userId -> {
+            likeService.like(postId, userId);
+            if (userId % 2 == 0) {
+                likeService.like(postId, userId);
+            } else {
+                likeService.unlike(postId, userId);
+                likeService.unlike(postId, userId);
+            }
+        });
+        likeService.flush();
+
+        long liked = userIds.stream().filter(id -> id % 2 == 0).count();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM post_likes WHERE post_id = ?", Long.class, postId)).isEqualTo(liked);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT like_count FROM posts WHERE id = ?", Long.class, postId)).isEqualTo(liked);
+    }
+
+    @Test
+    void 모두_취소하면_좋아요_수는_0으로_돌아온다() throws Exception {
+        run(userId -> likeService.like(postId, userId));
+        likeService.flush();
+        run(userId -> likeService.unlike(postId, userId));
+        likeService.flush();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM post_likes WHERE post_id = ?", Long.class, postId)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT like_count FROM posts WHERE id = ?", Long.class, postId)).isZero();
+    }
+
+    /**
+     * 사용자마다 스레드 하나, 모든 스레드가 준비된 뒤 래치로 한꺼번에 시작
+     * - 커넥션 풀보다 훨씬 많은 요청이 동시에 몰리는 상황 (풀 대기는 connection-timeout 안에서 해소)
+     */
+    private void run(UserAction action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(USERS);
+        CountDownLatch ready = new CountDownLatch(USERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Long userId : userIds) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    action.run(userId);
+                    return null;
+                }));
+            }
+            ready.await();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface UserAction {
+        void run(Long userId);
+    }
+}
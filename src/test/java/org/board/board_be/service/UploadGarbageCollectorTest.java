@@ -0,0 +1,113 @@
+package org.board.board_be.service;
+
+import org.board.board_be.domain.post.PostFile;
+import org.board.board_be.service.image.ImageVariant;
+import org.board.board_be.service.image.ImageVariantService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "file.upload-dir=build/test-uploads/gc",
+        "board.upload.gc.enabled=false",
+        "board.upload.gc.pause=0ms"
+})
+class UploadGarbageCollectorTest {
+
+    @Autowired
+    private UploadGarbageCollector uploadGarbageCollector;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> storageKeys = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        storageKeys.forEach(key -> jdbcTemplate.update("DELETE FROM stored_files WHERE storage_key = ?", key));
+        FileSystemUtils.deleteRecursively(fileStorageService.uploadPath());
+    }
+
+    @Test
+    void 참조된_원본의_이미지_변형은_정리되지_않는다() throws IOException {
+        String referenced = upload("referenced");
+        jdbcTemplate.update("""
+                INSERT INTO stored_files (storage_key, file_size, ref_count, created_at, updated_at)
+                VALUES (?, 10, 1, now(), now())
+                """, referenced);
+        Path thumb = writeOld(ImageVariantService.variantFileName(referenced, ImageVariant.THUMB));
+        String orphan = upload("orphan");
+        Path orphanThumb = writeOld(ImageVariantService.variantFileName(orphan, ImageVariant.THUMB));
+        makeOld(fileStorageService.resolve(referenced));
+        makeOld(fileStorageService.resolve(orphan));
+
+        uploadGarbageCollector.sweep();
+
+        assertThat(fileStorageService.resolve(referenced)).exists();
+        assertThat(thumb).exists();
+        assertThat(fileStorageService.resolve(orphan)).doesNotExist();
+        assertThat(orphanThumb).doesNotExist();
+    }
+
+    @Test
+    void 참조가_0인_파일도_다시_업로드되면_정리되지_않는다() throws IOException {
+        String reused = upload("reused");
+        String expired = upload("expired");
+        for (String key : List.of(reused, expired)) {
+            jdbcTemplate.update("""
+                    INSERT INTO stored_files (storage_key, file_size, ref_count, created_at, updated_at)
+                    VALUES (?, 10, 0, now() - interval '30 days', now() - interval '30 days')
+                    """, key);
+            makeOld(fileStorageService.resolve(key));
+        }
+
+        // 같은 내용 재업로드 → 파일 수정 시각과 stored_files.updated_at 갱신
+        assertThat(upload("reused")).isEqualTo(reused);
+        uploadGarbageCollector.sweep();
+
+        assertThat(fileStorageService.resolve(reused)).exists();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM stored_files WHERE storage_key = ?", Long.class, reused)).isEqualTo(1L);
+        assertThat(fileStorageService.resolve(expired)).doesNotExist();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM stored_files WHERE storage_key = ?", Long.class, expired)).isZero();
+    }
+
+    private String upload(String content) {
+        PostFile file = fileStorageService.store(new MockMultipartFile("files", "photo.jpg", "image/jpeg",
+                (content + "-" + getClass().getName()).getBytes(StandardCharsets.UTF_8)));
+        storageKeys.add(file.getStorageKey());
+        return file.getStorageKey();
+    }
+
+    private Path writeOld(String fileName) throws IOException {
+        Path path = fileStorageService.resolve(fileName);
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, "variant");
+        makeOld(path);
+        return path;
+    }
+
+    private static void makeOld(Path path) throws IOException {
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+    }
+}
@@ -0,0 +1,56 @@
+package org.board.board_be.service.auth;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountingBloomFilterTest {
+
+    private static final int N = 10_000;
+
+    @Test
+    void 추가한_값은_항상_있다고_답하고_오탐률은_목표_근처다() {
+        CountingBloomFilter filter = new CountingBloomFilter(N, 0.01);
+        for (int i = 0; i < N; i++) {
+            filter.add("user_" + i);
+        }
+
+        for (int i = 0; i < N; i++) {
+            assertThat(filter.mightContain("user_" + i)).isTrue();
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < N; i++) {
+            if (filter.mightContain("absent_" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives / (double) N).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+        // 약 9.6 카운터/원소 x 4비트
+        assertThat(filter.memoryBytes()).isBetween(N * 4L, N * 6L);
+    }
+
+    @Test
+    void 제거한_값만_사라지고_다른_값은_남는다() {
+        CountingBloomFilter filter = new CountingBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.add("user_" + i);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            assertThat(filter.remove("user_" + i)).isTrue();
+        }
+
+        for (int i = 500; i < 1_000; i++) {
+            assertThat(filter.mightContain("user_" + i)).isTrue();
+        }
+        long stillPresent = 0;
+        for (int i = 0; i < 500; i++) {
+            if (filter.mightContain("user_" + i)) {
+                stillPresent++;
+            }
+        }
+        assertThat(stillPresent).isLessThan(25);
+        assertThat(filter.entries()).isEqualTo(500);
+    }
+}
@@ -0,0 +1,59 @@
+package org.board.board_be.service.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.board.board_be.web.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private final PasswordHasher hasher = new PasswordHasher(new SimpleMeterRegistry(), 5, 1, 4, Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Test
+    void 해시한_비밀번호를_검증하고_cost를_기록한다() {
+        String hash = hasher.hash("secret-1234");
+
+        assertThat(hash).startsWith("$2a$05$");
+        assertThat(hasher.matches("secret-1234", hash, hasher.cost())).isTrue();
+        assertThat(hasher.matches("secret-12345", hash, hasher.cost())).isFalse();
+        assertThat(hasher.needsUpgrade(hash, hasher.cost())).isFalse();
+    }
+
+    @Test
+    void 평문과_낮은_cost_해시는_교체_대상이다() {
+        String seeded = "$2a$04$" + "N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+
+        assertThat(hasher.matches("plain", "plain", PasswordHasher.PLAINTEXT)).isTrue();
+        assertThat(hasher.needsUpgrade("plain", PasswordHasher.PLAINTEXT)).isTrue();
+        assertThat(PasswordHasher.costOf(seeded, PasswordHasher.PLAINTEXT)).isEqualTo(4);
+        assertThat(hasher.needsUpgrade(seeded, PasswordHasher.PLAINTEXT)).isTrue();
+    }
+
+    @Test
+    void 시간_초과된_작업은_대기열에서_빠진다() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        // 스레드 1개, 대기열 1칸, cost 12 검증(수백 ms)이 끝나기 전에 시간 초과
+        PasswordHasher slow = new PasswordHasher(registry, 12, 1, 1, Duration.ofMillis(50));
+        try {
+            String hash = "$2a$12$" + "N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+            // 첫 작업은 실행 중인 채로 시간 초과, 두 번째 작업은 대기열에서 시간 초과
+            assertThatThrownBy(() -> slow.matches("secret", hash, 12)).isInstanceOf(ServiceUnavailableException.class);
+            assertThatThrownBy(() -> slow.matches("secret", hash, 12)).isInstanceOf(ServiceUnavailableException.class);
+
+            assertThat(registry.get("board.password.queue").gauge().value()).isZero();
+            assertThat(registry.get("board.password.rejected").counter().count()).isEqualTo(2);
+        } finally {
+            slow.shutdown();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.board.board_be.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostListCacheTest {
+
+    private final PostListCache cache = new PostListCache(new SimpleMeterRegistry(), new ObjectMapper(),
+            3, 200, Duration.ofSeconds(10));
+
+    private static final Sort LATEST = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    @Test
+    void 기본_정렬과_기본_크기의_앞쪽_페이지만_캐시한다() {
+        assertThat(cache.isCacheable(PageRequest.of(0, 20, LATEST))).isTrue();
+        assertThat(cache.isCacheable(PageRequest.of(2, 20, LATEST))).isTrue();
+
+        assertThat(cache.isCacheable(PageRequest.of(3, 20, LATEST))).isFalse();
+        assertThat(cache.isCacheable(PageRequest.of(0, 21, LATEST))).isFalse();
+        assertThat(cache.isCacheable(PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "createdAt")))).isFalse();
+        assertThat(cache.isCacheable(PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "viewCount")))).isFalse();
+        assertThat(cache.isCacheable(PageRequest.of(0, 20))).isFalse();
+        assertThat(cache.isCacheable(Pageable.unpaged())).isFalse();
+    }
+}
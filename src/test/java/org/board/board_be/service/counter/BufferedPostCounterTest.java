@@ -0,0 +1,98 @@
+package org.board.board_be.service.counter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BufferedPostCounterTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final FlakyJdbcTemplate jdbcTemplate = new FlakyJdbcTemplate();
+    private final BufferedPostCounter counter = new BufferedPostCounter(PostCounter.VIEW, 4, jdbcTemplate,
+            new DirectTransactionTemplate(), registry);
+
+    @Test
+    void 반영에_실패하면_증감량을_되돌려_다음_flush에서_재시도한다() {
+        counter.add(2L, 1);
+        counter.add(1L, 2);
+        counter.add(2L, 3);
+
+        jdbcTemplate.failing = true;
+        assertThat(counter.flush()).isZero();
+        assertThat(jdbcTemplate.rows).isEmpty();
+        assertThat(pendingDeltaGauge()).isEqualTo(6);
+        assertThat(registry.get("board.counter.flush.failures").counter().count()).isEqualTo(1);
+
+        // 실패 사이에 들어온 증감도 함께 반영
+        counter.add(1L, 1);
+        jdbcTemplate.failing = false;
+        assertThat(counter.flush()).isEqualTo(2);
+
+        assertThat(jdbcTemplate.sql).isEqualTo("UPDATE posts SET view_count = view_count + ? WHERE id = ?");
+        // 행 락 순서를 맞추기 위해 게시글 ID 순
+        assertThat(jdbcTemplate.rows).containsExactly(new Object[]{3L, 1L}, new Object[]{4L, 2L});
+        assertThat(pendingDeltaGauge()).isZero();
+        assertThat(registry.get("board.counter.flushed.rows").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void 대기량_게이지는_추가와_flush를_그대로_따라간다() {
+        counter.add(1L, 5);
+        counter.add(1L, -2);
+        counter.add(3L, 1);
+        assertThat(pendingDeltaGauge()).isEqualTo(4);
+        assertThat(registry.get("board.counter.pending.posts").gauge().value()).isEqualTo(2);
+
+        counter.flush();
+
+        assertThat(pendingDeltaGauge()).isZero();
+        assertThat(registry.get("board.counter.pending.posts").gauge().value()).isZero();
+        assertThat(counter.flush()).as("반영할 것이 없으면 DB를 호출하지 않음").isZero();
+        assertThat(jdbcTemplate.calls).isEqualTo(1);
+    }
+
+    private double pendingDeltaGauge() {
+        return registry.get("board.counter.pending.delta").tag("counter", "view").gauge().value();
+    }
+
+    /**
+     * batchUpdate만 기록하는 스텁, failing이면 DB 장애처럼 예외
+     */
+    private static final class FlakyJdbcTemplate extends JdbcTemplate {
+        private boolean failing;
+        private int calls;
+        private String sql;
+        private final List<Object[]> rows = new ArrayList<>();
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            calls++;
+            if (failing) {
+                throw new DataAccessResourceFailureException("connection refused");
+            }
+            this.sql = sql;
+            rows.addAll(batchArgs);
+            return new int[batchArgs.size()];
+        }
+    }
+
+    /**
+     * 트랜잭션 매니저 없이 콜백만 실행
+     */
+    private static final class DirectTransactionTemplate extends TransactionTemplate {
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            return action.doInTransaction(new SimpleTransactionStatus());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.board.board_be.service.counter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedCounterTest {
+
+    private static final int WRITERS = 8;
+    private static final int ADDS_PER_WRITER = 50_000;
+    private static final long KEYS = 4;
+
+    private final StripedCounter counter = new StripedCounter(4);
+
+    @Test
+    void 꺼내는_도중에_들어온_증감도_유실되지_않는다() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Map<Long, Long> flushed = new HashMap<>();
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ADDS_PER_WRITER; i++) {
+                        counter.add(i % KEYS, 1);
+                    }
+                    return null;
+                }));
+            }
+            // 쓰는 동안 계속 꺼내 합산 (주기적인 flush와 같은 상황)
+            Future<?> drainer = executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    counter.drain().forEach((key, delta) -> flushed.merge(key, delta, Long::sum));
+                }
+                return null;
+            });
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            writing.set(false);
+            drainer.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        counter.drain().forEach((key, delta) -> flushed.merge(key, delta, Long::sum));
+
+        long perKey = (long) WRITERS * ADDS_PER_WRITER / KEYS;
+        assertThat(flushed).hasSize((int) KEYS).allSatisfy((key, delta) -> assertThat(delta).isEqualTo(perKey));
+        assertThat(counter.pendingDelta()).isZero();
+        assertThat(counter.pendingKeys()).isZero();
+    }
+
+    @Test
+    void 합이_0인_키는_꺼내지_않고_되돌린_증감은_대기량에_다시_잡힌다() {
+        counter.add(1L, 3);
+        counter.add(2L, 1);
+        counter.add(2L, -1);
+        assertThat(counter.pendingDelta()).isEqualTo(3);
+
+        Map<Long, Long> drained = counter.drain();
+        assertThat(drained).containsExactly(Map.entry(1L, 3L));
+        assertThat(counter.pendingDelta()).isZero();
+
+        counter.restore(drained);
+        counter.add(1L, 2);
+        assertThat(counter.pendingDelta()).isEqualTo(5);
+        assertThat(counter.drain()).containsExactly(Map.entry(1L, 5L));
+    }
+}
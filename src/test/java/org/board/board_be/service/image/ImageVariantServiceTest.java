@@ -0,0 +1,65 @@
+package org.board.board_be.service.image;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.board.board_be.domain.file.StoredFileRepository;
+import org.board.board_be.service.FileStorageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ImageVariantServiceTest {
+
+    private static final String STORAGE_KEY = "a".repeat(64) + ".png";
+
+    @TempDir
+    Path uploadDir;
+
+    private FileStorageService fileStorageService;
+    private ImageVariantService imageVariantService;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageService = new FileStorageService(mock(StoredFileRepository.class), TransactionOperations.withoutTransaction(), uploadDir.toString(), 1);
+        imageVariantService = new ImageVariantService(fileStorageService, new SimpleMeterRegistry(), 1, 10, 40_000_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageVariantService.shutdown();
+        fileStorageService.shutdown();
+    }
+
+    @Test
+    void 긴_변_기준으로_축소된_변형이_원본_옆에_저장된다() throws Exception {
+        Path original = fileStorageService.resolve(STORAGE_KEY);
+        Files.createDirectories(original.getParent());
+        ImageIO.write(new BufferedImage(4000, 2000, BufferedImage.TYPE_INT_ARGB), "png", original.toFile());
+
+        imageVariantService.generate(STORAGE_KEY);
+
+        BufferedImage thumb = ImageIO.read(fileStorageService.resolve("a".repeat(64) + "_thumb.png").toFile());
+        BufferedImage medium = ImageIO.read(fileStorageService.resolve("a".repeat(64) + "_medium.png").toFile());
+        assertThat(thumb.getWidth()).isEqualTo(320);
+        assertThat(thumb.getHeight()).isEqualTo(160);
+        assertThat(medium.getWidth()).isEqualTo(1024);
+        assertThat(medium.getHeight()).isEqualTo(512);
+    }
+
+    @Test
+    void 내용_주소_기반이_아닌_파일은_변형_대상이_아니다() {
+        assertThat(ImageVariantService.variantFileName("3f1c-uuid.jpg", ImageVariant.THUMB)).isNull();
+        assertThat(ImageVariantService.variantFileName("a".repeat(64) + ".pdf", ImageVariant.THUMB)).isNull();
+        assertThat(ImageVariantService.variantFileName("a".repeat(64) + ".JPEG", ImageVariant.THUMB))
+                .isEqualTo("a".repeat(64) + "_thumb.jpg");
+    }
+}
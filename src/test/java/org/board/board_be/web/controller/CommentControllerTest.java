@@ -0,0 +1,72 @@
+package org.board.board_be.web.controller;
+
+import jakarta.persistence.EntityManager;
+import org.board.board_be.domain.comment.Comment;
+import org.board.board_be.domain.post.Post;
+import org.board.board_be.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class CommentControllerTest {
+
+    private static final int ROOTS = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        User author = User.builder()
+                .username("comments_" + System.nanoTime())
+                .password("password")
+                .nickname("댓글")
+                .build();
+        entityManager.persist(author);
+        Post post = Post.builder()
+                .author(author)
+                .title("댓글 목록")
+                .content("댓글 목록 테스트")
+                .build();
+        entityManager.persist(post);
+        for (int i = 0; i < ROOTS; i++) {
+            entityManager.persist(Comment.builder().post(post).author(author).content("comment " + i).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        postId = post.getId();
+    }
+
+    @Test
+    void cursor가_없으면_첫_페이지를_커서_페이징으로_준다() throws Exception {
+        mockMvc.perform(get("/boards/{postId}/comments", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(20)))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").isNotEmpty());
+    }
+
+    @Test
+    void 전체_조회는_all_파라미터를_명시해야_한다() throws Exception {
+        mockMvc.perform(get("/boards/{postId}/comments", postId).param("all", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(ROOTS)));
+    }
+}
@@ -0,0 +1,184 @@
+package org.board.board_be.web.file;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.board.board_be.domain.file.StoredFileRepository;
+import org.board.board_be.service.FileStorageService;
+import org.board.board_be.service.cache.FileMetadataCache;
+import org.board.board_be.service.image.ImageVariant;
+import org.board.board_be.service.image.ImageVariantService;
+import org.board.board_be.web.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class FileDownloadHandlerTest {
+
+    private static final String FILE_NAME = "legacy.txt";
+
+    @TempDir
+    Path uploadDir;
+
+    private FileStorageService fileStorageService;
+    private ImageVariantService imageVariantService;
+    private FileDownloadHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.writeString(uploadDir.resolve(FILE_NAME), "0123456789");
+        fileStorageService = new FileStorageService(mock(StoredFileRepository.class), TransactionOperations.withoutTransaction(), uploadDir.toString(), 1);
+        imageVariantService = mock(ImageVariantService.class);
+        handler = new FileDownloadHandler(new FileMetadataCache(fileStorageService, new SimpleMeterRegistry(),
+                100, Duration.ofMinutes(1)), imageVariantService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fileStorageService.shutdown();
+    }
+
+    @Test
+    void 전체_응답에_ETag와_Accept_Ranges가_포함된다() throws Exception {
+        MockHttpServletResponse response = get(new MockHttpServletRequest("GET", "/boards/files/" + FILE_NAME));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("0123456789");
+        assertThat(response.getHeader("ETag")).isNotBlank();
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(response.getContentType()).startsWith("text/plain");
+    }
+
+    @Test
+    void Range_요청은_206으로_일부만_전송한다() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/boards/files/" + FILE_NAME);
+        request.addHeader("Range", "bytes=2-5");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("2345");
+    }
+
+    @Test
+    void 범위를_벗어난_Range는_416() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/boards/files/" + FILE_NAME);
+        request.addHeader("Range", "bytes=10-");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */10");
+    }
+
+    @Test
+    void 같은_ETag로_다시_요청하면_304() throws Exception {
+        String etag = get(new MockHttpServletRequest("GET", "/boards/files/" + FILE_NAME)).getHeader("ETag");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/boards/files/" + FILE_NAME);
+        request.addHeader("If-None-Match", etag);
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void 변형이_아직_없으면_원본을_캐시_금지로_보내고_생성을_요청한다() throws Exception {
+        String fileName = "a".repeat(64) + ".png";
+        Files.write(fileStorageService.flatPath(fileName), new byte[]{1, 2, 3});
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        handler.handle(fileName, ImageVariant.THUMB,
+                new MockHttpServletRequest("GET", "/boards/files/" + fileName), response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("no-cache");
+        verify(imageVariantService).submit(fileName);
+    }
+
+    @Test
+    void 원본이_없으면_변형_생성을_요청하지_않고_404() {
+        String fileName = "b".repeat(64) + ".png";
+
+        assertThatThrownBy(() -> handler.handle(fileName, ImageVariant.THUMB,
+                new MockHttpServletRequest("GET", "/boards/files/" + fileName), new MockHttpServletResponse()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(imageVariantService);
+    }
+
+    @Test
+    void sendfile은_요청마다_파일을_확인하지_않고_캐시된_경로를_넘긴다() throws Exception {
+        String fileName = "abcd1234.bin";
+        Path flat = fileStorageService.flatPath(fileName);
+        Files.write(flat, new byte[64 * 1024]);
+        assertThat(sendfileName(fileName)).isEqualTo(flat.toString());
+
+        // 이동 시 캐시를 비우는 것은 이동하는 쪽(UploadLayoutMigrator)의 책임
+        Path sharded = fileStorageService.shardedPath(fileName);
+        Files.createDirectories(sharded.getParent());
+        Files.move(flat, sharded);
+
+        assertThat(sendfileName(fileName)).isEqualTo(flat.toString());
+    }
+
+    @Test
+    void 캐시_이후_이동된_파일은_다시_찾아_보낸다() throws Exception {
+        assertThat(get(new MockHttpServletRequest("GET", "/boards/files/" + FILE_NAME)).getStatus()).isEqualTo(200);
+        Path sharded = fileStorageService.shardedPath(FILE_NAME);
+        Files.createDirectories(sharded.getParent());
+        Files.move(uploadDir.resolve(FILE_NAME), sharded);
+
+        MockHttpServletResponse response = get(new MockHttpServletRequest("GET", "/boards/files/" + FILE_NAME));
+
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("0123456789");
+    }
+
+    @Test
+    void 캐시_이후_삭제된_파일은_캐싱_범위_헤더_없이_404() throws Exception {
+        String fileName = "c".repeat(64) + ".txt";
+        Path path = fileStorageService.flatPath(fileName);
+        Files.writeString(path, "0123456789");
+        MockHttpServletRequest first = new MockHttpServletRequest("GET", "/boards/files/" + fileName);
+        MockHttpServletResponse cached = new MockHttpServletResponse();
+        handler.handle(fileName, first, cached);
+        assertThat(cached.getHeader("Cache-Control")).contains("immutable");
+        Files.delete(path);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/boards/files/" + fileName);
+        request.addHeader("Range", "bytes=2-5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> handler.handle(fileName, request, response))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(response.getHeaderNames()).isEmpty();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    private Object sendfileName(String fileName) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/boards/files/" + fileName);
+        request.setAttribute("org.apache.tomcat.sendfile.support", true);
+        handler.handle(fileName, request, new MockHttpServletResponse());
+        return request.getAttribute("org.apache.tomcat.sendfile.filename");
+    }
+
+    private MockHttpServletResponse get(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        handler.handle(FILE_NAME, request, response);
+        return response;
+    }
+}
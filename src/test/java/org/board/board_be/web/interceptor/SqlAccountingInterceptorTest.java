@@ -0,0 +1,100 @@
+package org.board.board_be.web.interceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "board.sql.n-plus-one.mode=fail",
+        "board.sql.n-plus-one.threshold=10"
+})
+@AutoConfigureMockMvc
+class SqlAccountingInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void 같은_SQL을_threshold번_넘게_실행하는_요청은_fail_모드에서_실패한다() throws Exception {
+        mockMvc.perform(get("/test/sql/repeat"))
+                .andExpect(status().isInternalServerError());
+
+        Counter nPlusOne = meterRegistry.find("board.sql.n_plus_one")
+                .tag("handler", "SqlProbeController.repeat")
+                .counter();
+        assertThat(nPlusOne).isNotNull();
+        assertThat(nPlusOne.count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 요청별_SQL_문장_수와_읽은_행_수를_기록한다() throws Exception {
+        mockMvc.perform(get("/test/sql/rows"))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = summary("board.sql.statements", "SqlProbeController.rows");
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(2.0);
+        DistributionSummary rows = summary("board.sql.rows", "SqlProbeController.rows");
+        assertThat(rows.count()).isEqualTo(1);
+        assertThat(rows.totalAmount()).isEqualTo(8.0);
+    }
+
+    private DistributionSummary summary(String name, String handler) {
+        DistributionSummary summary = meterRegistry.find(name).tag("handler", handler).summary();
+        assertThat(summary).as(name + "{handler=" + handler + "}").isNotNull();
+        return summary;
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        SqlProbeController sqlProbeController(JdbcTemplate jdbcTemplate) {
+            return new SqlProbeController(jdbcTemplate);
+        }
+    }
+
+    @RestController
+    static class SqlProbeController {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        SqlProbeController(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        // 반복문 안의 단건 조회 (N+1 모양), threshold(10)를 넘김
+        @GetMapping("/test/sql/repeat")
+        int repeat() {
+            int sum = 0;
+            for (int i = 0; i < 11; i++) {
+                sum += jdbcTemplate.queryForObject("SELECT ?", Integer.class, i);
+            }
+            return sum;
+        }
+
+        // 문장 2개, 읽은 행 3 + 5
+        @GetMapping("/test/sql/rows")
+        int rows() {
+            return jdbcTemplate.queryForList("SELECT generate_series(1, 3)", Integer.class).size()
+                    + jdbcTemplate.queryForList("SELECT generate_series(1, 5)", Integer.class).size();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.board.board_be.web.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedJsonTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void gzip을_허용하면_같은_압축_본문을_재사용한다() throws Exception {
+        SerializedJson body = SerializedJson.success(objectMapper, List.of("x".repeat(SerializedJson.GZIP_MIN_SIZE)));
+
+        ResponseEntity<byte[]> first = body.toResponse("gzip, deflate, br");
+        ResponseEntity<byte[]> second = body.toResponse("br;q=1.0, gzip;q=0.8");
+
+        assertThat(first.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(first.getBody()))) {
+            assertThat(in.readAllBytes()).isEqualTo(body.json());
+        }
+    }
+
+    @Test
+    void gzip을_거부하거나_본문이_작으면_원본을_보낸다() {
+        SerializedJson large = SerializedJson.success(objectMapper, List.of("x".repeat(SerializedJson.GZIP_MIN_SIZE)));
+        SerializedJson small = SerializedJson.success(objectMapper, Map.of("id", 1));
+
+        assertThat(large.toResponse("gzip;q=0").getBody()).isSameAs(large.json());
+        assertThat(large.toResponse(null).getBody()).isSameAs(large.json());
+        ResponseEntity<byte[]> response = small.toResponse("gzip");
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(new String(response.getBody())).isEqualTo("{\"success\":true,\"data\":{\"id\":1}}");
+    }
+}
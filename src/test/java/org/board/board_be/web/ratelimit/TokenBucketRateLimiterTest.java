@@ -0,0 +1,40 @@
+package org.board.board_be.web.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // 분당 60회 = 1초에 토큰 1개, 한 번에 3개까지
+    private final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(60, 3, 4);
+
+    @Test
+    void burst를_다_쓰면_다음_토큰까지_남은_시간을_돌려준다() {
+        long now = 1_000 * SECOND;
+        assertThat(limiter.tryAcquire(1L, now)).isZero();
+        assertThat(limiter.tryAcquire(1L, now)).isZero();
+        assertThat(limiter.tryAcquire(1L, now)).isZero();
+
+        assertThat(limiter.tryAcquire(1L, now)).isEqualTo(SECOND);
+        assertThat(limiter.tryAcquire(2L, now)).as("다른 사용자는 별도 버킷").isZero();
+        assertThat(limiter.tryAcquire(1L, now + SECOND)).isZero();
+    }
+
+    @Test
+    void 버킷이_다시_가득_찬_키만_정리한다() {
+        long now = 1_000 * SECOND;
+        limiter.tryAcquire(1L, now);
+        limiter.tryAcquire(2L, now);
+        limiter.tryAcquire(2L, now);
+
+        assertThat(limiter.evictIdle(now + SECOND)).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.evictIdle(now + 2 * SECOND)).isEqualTo(1);
+        assertThat(limiter.size()).isZero();
+    }
+}